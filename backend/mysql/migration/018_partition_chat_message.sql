@@ -0,0 +1,62 @@
+-- chat_message 월 단위 RANGE 파티셔닝 + cold archive 테이블 (1회 수동 실행)
+--
+-- 전제
+--  * MySQL 8.0, sent_at 은 UTC 로 저장 (hibernate.jdbc.time_zone=UTC)
+--  * 파티션 테이블은 FK 를 가질 수도, 참조될 수도 없다.
+--    → chat_message 의 FK(thread/sender)와 chat_read_state.last_read_message_id FK 를 제거
+--      (엔티티도 ConstraintMode.NO_CONSTRAINT 로 맞춰둠, 무결성은 애플리케이션 경로에서 보장)
+--  * 모든 unique key 에 파티션 키가 포함돼야 하므로 PK 를 (id, sent_at) 로 변경
+--  * 실행 후 chat.persistence.partition.enabled=true 로 두면
+--    ChatMessagePartitionMaintainer 가 다음 달 파티션 생성 / 오래된 파티션 archive 를 이어서 수행
+--
+-- 큰 테이블이면 ALTER 가 테이블 전체를 재작성하므로 점검 시간에 실행할 것
+
+-- 1) chat_message 의 FK 제거
+SET @drop_fk := (
+    SELECT GROUP_CONCAT(CONCAT('DROP FOREIGN KEY `', CONSTRAINT_NAME, '`') SEPARATOR ', ')
+    FROM information_schema.TABLE_CONSTRAINTS
+    WHERE TABLE_SCHEMA = DATABASE()
+      AND TABLE_NAME = 'chat_message'
+      AND CONSTRAINT_TYPE = 'FOREIGN KEY'
+);
+SET @sql := IF(@drop_fk IS NULL, 'SELECT 1', CONCAT('ALTER TABLE chat_message ', @drop_fk));
+PREPARE stmt FROM @sql; EXECUTE stmt; DEALLOCATE PREPARE stmt;
+
+-- 2) chat_message 를 참조하는 FK 제거 (chat_read_state.last_read_message_id)
+SET @drop_ref_fk := (
+    SELECT GROUP_CONCAT(CONCAT('DROP FOREIGN KEY `', CONSTRAINT_NAME, '`') SEPARATOR ', ')
+    FROM information_schema.REFERENTIAL_CONSTRAINTS
+    WHERE CONSTRAINT_SCHEMA = DATABASE()
+      AND TABLE_NAME = 'chat_read_state'
+      AND REFERENCED_TABLE_NAME = 'chat_message'
+);
+SET @sql := IF(@drop_ref_fk IS NULL, 'SELECT 1', CONCAT('ALTER TABLE chat_read_state ', @drop_ref_fk));
+PREPARE stmt FROM @sql; EXECUTE stmt; DEALLOCATE PREPARE stmt;
+
+-- 3) PK 에 파티션 키 포함
+ALTER TABLE chat_message
+    DROP PRIMARY KEY,
+    ADD PRIMARY KEY (id, sent_at);
+
+-- 4) 월 파티션 (이번 달 이전은 p_old 하나로, 이후는 maintainer 가 pmax 를 쪼개서 추가)
+SET @this_month := DATE_FORMAT(UTC_DATE(), '%Y-%m-01');
+SET @next_month := DATE_FORMAT(UTC_DATE() + INTERVAL 1 MONTH, '%Y-%m-01');
+SET @sql := CONCAT(
+    'ALTER TABLE chat_message PARTITION BY RANGE COLUMNS(sent_at) (',
+    'PARTITION p_old VALUES LESS THAN (''', @this_month, '''), ',
+    'PARTITION p', DATE_FORMAT(@this_month, '%Y%m'), ' VALUES LESS THAN (''', @next_month, '''), ',
+    'PARTITION pmax VALUES LESS THAN (MAXVALUE))'
+);
+PREPARE stmt FROM @sql; EXECUTE stmt; DEALLOCATE PREPARE stmt;
+
+-- 5) cold archive (파티션 없음, 압축 row format, 방/seq 로만 조회)
+CREATE TABLE IF NOT EXISTS chat_message_archive (
+    id             BIGINT       NOT NULL,
+    thread_id      BIGINT       NOT NULL,
+    sender_user_id BIGINT       NOT NULL,
+    seq            BIGINT       NULL,
+    content        LONGTEXT     NOT NULL,
+    sent_at        DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id),
+    KEY idx_cma_thread_seq (thread_id, seq)
+) ENGINE = InnoDB ROW_FORMAT = COMPRESSED;
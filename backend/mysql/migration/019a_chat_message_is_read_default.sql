@@ -0,0 +1,13 @@
+-- chat_message.is_read 제거 1단계 (배포 전 실행)
+--
+-- 새 버전은 INSERT 에 is_read 를 넣지 않으므로 NOT NULL 컬럼에 기본값을 먼저 준다.
+-- 구 버전(JPA 가 is_read 를 직접 씀)과도 호환되는 변경이라 롤링 배포 중에도 안전하다.
+
+ALTER TABLE chat_message ALTER COLUMN is_read SET DEFAULT 0;
+
+-- last_read_seq 가 비어 있는 row 는 last_read_message_id 의 seq 로 채움
+UPDATE chat_read_state crs
+    JOIN chat_message m ON m.id = crs.last_read_message_id
+SET crs.last_read_seq = m.seq
+WHERE crs.last_read_seq IS NULL
+  AND m.seq IS NOT NULL;
@@ -0,0 +1,14 @@
+-- chat_message.is_read 제거 2단계 (모든 노드가 새 버전으로 바뀐 뒤 실행)
+--
+-- 읽음 여부는 chat_read_state.last_read_seq watermark 로만 판단하고
+-- chat_message 는 insert-only 가 된다. (ddl-auto=update 는 컬럼을 지우지 않으므로 수동 DROP)
+
+SET @has_col := (
+    SELECT COUNT(*)
+    FROM information_schema.COLUMNS
+    WHERE TABLE_SCHEMA = DATABASE()
+      AND TABLE_NAME = 'chat_message'
+      AND COLUMN_NAME = 'is_read'
+);
+SET @sql := IF(@has_col = 0, 'SELECT 1', 'ALTER TABLE chat_message DROP COLUMN is_read');
+PREPARE stmt FROM @sql; EXECUTE stmt; DEALLOCATE PREPARE stmt;
@@ -0,0 +1,59 @@
+package kr.co.mongmate.api.chat.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.co.mongmate.domain.chat.repository.ChatReadStateRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 방 멤버십 확인 비용 (SUBSCRIBE / SEND 마다)
+ *
+ * - assertMember: roomId/userId 파싱 + 멤버십 캐시 hit
+ * - parseIds: 그중 id 파싱만 (캐시 조회와 분리해서 보기 위함)
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=ChatRoomAccessServiceBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ChatRoomAccessServiceBenchmark {
+
+    private ChatRoomAccessService service;
+    private String roomId;
+    private String userId;
+
+    @Setup
+    public void setUp() {
+        ChatReadStateRepository alwaysMember = (ChatReadStateRepository) Proxy.newProxyInstance(
+                ChatReadStateRepository.class.getClassLoader(),
+                new Class<?>[]{ChatReadStateRepository.class},
+                (proxy, method, args) -> method.getName().startsWith("exists") ? Boolean.TRUE : null);
+
+        service = new ChatRoomAccessService(new ChatMembershipCache(
+                alwaysMember, new SimpleMeterRegistry(), 1000, Duration.ofMinutes(10), Duration.ofSeconds(30)));
+
+        // 상수 폴딩 방지
+        roomId = String.valueOf(1024);
+        userId = String.valueOf(77);
+        service.assertMember(roomId, userId);
+    }
+
+    @Benchmark
+    public void assertMember() {
+        service.assertMember(roomId, userId);
+    }
+
+    @Benchmark
+    public long parseIds() {
+        return Long.parseLong(roomId) + Long.parseLong(userId);
+    }
+}
@@ -0,0 +1,98 @@
+package kr.co.mongmate.infra.chat.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.co.mongmate.api.chat.dto.ChatMessageDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redis 저장 포맷 인코딩/디코딩 + ChatMessageDto 생성 비용
+ *
+ * - legacyJson*: 코덱 도입 전 ChatRedisService.toJson/fromJson (DTO 전체 JSON)
+ * - json* / binary*: 현재 ChatMessageCodecs 경로 (chat.redis.codec=json | binary)
+ * - dto*: append 경로에서 메시지마다 만드는 DTO
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=ChatMessageCodecBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ChatMessageCodecBenchmark {
+
+    /** 본문 길이 (짧은 대화 / 긴 메시지) */
+    @Param({"16", "512"})
+    public int contentLength;
+
+    private ObjectMapper objectMapper;
+    private ChatMessageCodecs jsonCodecs;
+    private ChatMessageCodecs binaryCodecs;
+
+    private ChatMessageDto message;
+    private byte[] legacyJson;
+    private byte[] json;
+    private byte[] binary;
+
+    @Setup
+    public void setUp() throws Exception {
+        objectMapper = new ObjectMapper();
+        jsonCodecs = new ChatMessageCodecs(objectMapper, "json");
+        binaryCodecs = new ChatMessageCodecs(objectMapper, "binary");
+
+        // 한글 본문 기준 (UTF-8 3바이트 문자)
+        String content = "안녕하세요반갑습니다".repeat(contentLength / 10 + 1).substring(0, contentLength);
+        message = new ChatMessageDto("1024", 123_456L, "77", content, 1_760_000_000_000L);
+
+        legacyJson = objectMapper.writeValueAsBytes(message);
+        json = jsonCodecs.encode(message);
+        binary = binaryCodecs.encode(message);
+    }
+
+    @Benchmark
+    public byte[] legacyJsonEncode() throws Exception {
+        return objectMapper.writeValueAsBytes(message);
+    }
+
+    @Benchmark
+    public ChatMessageDto legacyJsonDecode() throws Exception {
+        return objectMapper.readValue(legacyJson, ChatMessageDto.class);
+    }
+
+    @Benchmark
+    public byte[] jsonEncode() {
+        return jsonCodecs.encode(message);
+    }
+
+    @Benchmark
+    public ChatMessageDto jsonDecode() {
+        return jsonCodecs.decode("1024", 123_456L, json);
+    }
+
+    @Benchmark
+    public byte[] binaryEncode() {
+        return binaryCodecs.encode(message);
+    }
+
+    @Benchmark
+    public ChatMessageDto binaryDecode() {
+        return binaryCodecs.decode("1024", 123_456L, binary);
+    }
+
+    @Benchmark
+    public ChatMessageDto dtoOf() {
+        return ChatMessageDto.of(message.roomId(), message.seq(), message.userId(), message.content());
+    }
+
+    @Benchmark
+    public ChatMessageDto dtoWithSeq() {
+        return new ChatMessageDto(message.roomId(), message.seq() + 1, message.userId(), message.content(),
+                message.timestamp());
+    }
+}
@@ -0,0 +1,72 @@
+package kr.co.mongmate.infra.security.jwt;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.core.Authentication;
+
+import java.lang.reflect.Field;
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * STOMP CONNECT 인증 비용
+ *
+ * - cachedAuthentication: 검증 캐시 hit (SHA-256 + Caffeine 조회)
+ * - parseOnly: 캐시 없이 서명 검증 + claims 파싱 (캐시 miss 시 추가되는 비용)
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=JwtTokenProviderBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtTokenProviderBenchmark {
+
+    // jwt.secret 과 같은 Base64 형식
+    private static final String SECRET = "YmVuY2htYXJrLXNlY3JldC1iZW5jaG1hcmstc2VjcmV0LWJlbmNobWFyay1zZWNyZXQ=";
+
+    private JwtTokenProvider provider;
+    private String token;
+
+    @Setup
+    public void setUp() throws Exception {
+        provider = new JwtTokenProvider();
+        set("secret", SECRET);
+        set("verifiedCacheMaxSize", 1000L);
+        set("verifiedCacheMaxTtl", Duration.ofMinutes(10));
+        provider.init();
+
+        token = Jwts.builder()
+                .setSubject("77")
+                .claim("roles", List.of("ROLE_USER"))
+                .setExpiration(new Date(System.currentTimeMillis() + TimeUnit.HOURS.toMillis(1)))
+                .signWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET)))
+                .compact();
+        provider.getAuthentication(token);
+    }
+
+    @Benchmark
+    public Authentication cachedAuthentication() {
+        return provider.getAuthentication(token);
+    }
+
+    @Benchmark
+    public void parseOnly() {
+        provider.validateTokenOrThrow(token);
+    }
+
+    private void set(String field, Object value) throws Exception {
+        Field f = JwtTokenProvider.class.getDeclaredField(field);
+        f.setAccessible(true);
+        f.set(provider, value);
+    }
+}
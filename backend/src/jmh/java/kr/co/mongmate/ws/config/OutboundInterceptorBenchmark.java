@@ -0,0 +1,50 @@
+package kr.co.mongmate.ws.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.co.mongmate.ws.chat.ChatDestinations;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * clientOutboundChannel 인터셉터 프레임당 비용 (구독자 수만큼 곱해지는 경로)
+ *
+ * - queueWait: 대기 시간 기록 (preSend + beforeHandle)
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=OutboundInterceptorBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class OutboundInterceptorBenchmark {
+
+    private ChannelQueueWaitInterceptor queueWait;
+    private Message<byte[]> frame;
+
+    @Setup
+    public void setUp() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        queueWait = new ChannelQueueWaitInterceptor(registry, "outbound");
+
+        SimpMessageHeaderAccessor acc = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        acc.setSessionId("s1");
+        acc.setDestination(ChatDestinations.roomTopic("5"));
+        frame = MessageBuilder.createMessage(new byte[64], acc.getMessageHeaders());
+    }
+
+    @Benchmark
+    public Message<?> queueWait() {
+        queueWait.preSend(frame, null);
+        return queueWait.beforeHandle(frame, null, null);
+    }
+}
@@ -0,0 +1,139 @@
+package kr.co.mongmate.ws.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.co.mongmate.api.chat.service.ChatMembershipCache;
+import kr.co.mongmate.api.chat.service.ChatRoomAccessService;
+import kr.co.mongmate.domain.chat.repository.ChatReadStateRepository;
+import kr.co.mongmate.infra.security.jwt.JwtTokenProvider;
+import kr.co.mongmate.ws.chat.ChatDestinations;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * STOMP inbound 인터셉터 프레임당 비용 비교
+ *
+ * - legacy*: 기존 Auth + RoomAuthorize 인터셉터 두 개를 그대로 재현 (wrap + 재빌드 2회, System.out 제외)
+ * - inPlace*: 통합 인터셉터 (mutable accessor 제자리 수정)
+ *
+ * 실행: ./gradlew jmh  (gc 프로파일러의 gc.alloc.rate.norm 이 프레임당 할당 바이트)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class StompInboundInterceptorBenchmark {
+
+    private StompInboundChannelInterceptor interceptor;
+    private ChatRoomAccessService chatRoomAccessService;
+
+    // legacy 경로: ImmutableMessageChannelInterceptor 가 없어서 immutable 헤더로 들어오던 프레임
+    private Message<byte[]> legacySend;
+    private Message<byte[]> legacySubscribe;
+
+    // 통합 경로: mutable accessor 가 붙은 채로 들어오는 프레임
+    private Message<byte[]> mutableSend;
+    private Message<byte[]> mutableSubscribe;
+
+    @Setup
+    public void setUp() {
+        ChatReadStateRepository alwaysMember = (ChatReadStateRepository) Proxy.newProxyInstance(
+                ChatReadStateRepository.class.getClassLoader(),
+                new Class<?>[]{ChatReadStateRepository.class},
+                (proxy, method, args) -> method.getName().startsWith("exists") ? Boolean.TRUE : null);
+
+        chatRoomAccessService = new ChatRoomAccessService(new ChatMembershipCache(
+                alwaysMember, new SimpleMeterRegistry(), 1000, Duration.ofMinutes(10), Duration.ofSeconds(30)));
+        interceptor = new StompInboundChannelInterceptor(new JwtTokenProvider(), chatRoomAccessService);
+
+        Authentication auth = new UsernamePasswordAuthenticationToken("7", "token", List.of());
+        Map<String, Object> attrs = new HashMap<>(Map.of(StompInboundChannelInterceptor.AUTH_SESSION_KEY, auth));
+
+        legacySend = frame(StompCommand.SEND, "/app/chat.send", auth, attrs, false);
+        legacySubscribe = frame(StompCommand.SUBSCRIBE, ChatDestinations.roomTopic("5"), auth, attrs, false);
+        mutableSend = frame(StompCommand.SEND, "/app/chat.send", auth, attrs, true);
+        mutableSubscribe = frame(StompCommand.SUBSCRIBE, ChatDestinations.roomTopic("5"), auth, attrs, true);
+    }
+
+    @Benchmark
+    public Message<?> legacySend() {
+        return legacyRoomAuthorize(legacyAuth(legacySend));
+    }
+
+    @Benchmark
+    public Message<?> legacySubscribe() {
+        return legacyRoomAuthorize(legacyAuth(legacySubscribe));
+    }
+
+    @Benchmark
+    public Message<?> inPlaceSend() {
+        return interceptor.preSend(mutableSend, null);
+    }
+
+    @Benchmark
+    public Message<?> inPlaceSubscribe() {
+        return interceptor.preSend(mutableSubscribe, null);
+    }
+
+    /** 기존 StompAuthChannelInterceptor: CONNECT 가 아니어도 매번 wrap */
+    private Message<?> legacyAuth(Message<?> message) {
+        StompHeaderAccessor acc = StompHeaderAccessor.wrap(message);
+        if (StompCommand.CONNECT.equals(acc.getCommand())) {
+            throw new IllegalStateException("CONNECT is not benchmarked");
+        }
+        return message;
+    }
+
+    /** 기존 StompRoomAuthorizeInterceptor: SUBSCRIBE/SEND 마다 wrap + setUser + 재빌드 */
+    private Message<?> legacyRoomAuthorize(Message<?> message) {
+        StompHeaderAccessor acc = StompHeaderAccessor.wrap(message);
+        StompCommand cmd = acc.getCommand();
+        if (cmd == null) return message;
+
+        if (cmd == StompCommand.SUBSCRIBE || cmd == StompCommand.SEND) {
+            Authentication auth = null;
+            if (acc.getUser() instanceof Authentication a) {
+                auth = a;
+            } else if (acc.getSessionAttributes() != null
+                    && acc.getSessionAttributes().get(StompInboundChannelInterceptor.AUTH_SESSION_KEY) instanceof Authentication a) {
+                auth = a;
+            }
+            if (auth == null) throw new IllegalArgumentException("Unauthenticated");
+
+            acc.setUser(auth);
+
+            if (cmd == StompCommand.SUBSCRIBE && !ChatDestinations.isUserQueue(acc.getDestination())) {
+                chatRoomAccessService.assertMember(ChatDestinations.roomIdOf(acc.getDestination()), auth.getName());
+            }
+            return MessageBuilder.createMessage(message.getPayload(), acc.getMessageHeaders());
+        }
+        return message;
+    }
+
+    private static Message<byte[]> frame(StompCommand command, String destination, Authentication user,
+                                         Map<String, Object> attrs, boolean leaveMutable) {
+        StompHeaderAccessor acc = StompHeaderAccessor.create(command);
+        acc.setDestination(destination);
+        acc.setSessionId("s1");
+        acc.setSessionAttributes(attrs);
+        acc.setUser(user);
+        acc.setLeaveMutable(leaveMutable);
+        return MessageBuilder.createMessage(new byte[0], acc.getMessageHeaders());
+    }
+}
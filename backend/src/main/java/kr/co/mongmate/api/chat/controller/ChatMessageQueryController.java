@@ -1,10 +1,14 @@
 package kr.co.mongmate.api.chat.controller;
 
 import kr.co.mongmate.api.chat.dto.ChatMessageDto;
-import kr.co.mongmate.infra.chat.service.ChatRedisService;
+import kr.co.mongmate.api.chat.dto.ChatMessageGapResponse;
+import kr.co.mongmate.api.chat.service.ChatHistoryService;
+import kr.co.mongmate.api.chat.service.ChatRoomAccessService;
+import kr.co.mongmate.infra.chat.store.ChatStore;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
 
+import java.security.Principal;
 import java.util.List;
 
 @RestController
@@ -12,14 +16,47 @@ import java.util.List;
 @RequestMapping("/api/chat/rooms")
 public class ChatMessageQueryController {
 
-    private final ChatRedisService chatRedisService;
+    private final ChatStore chatStore;
+    private final ChatHistoryService chatHistoryService;
+    private final ChatRoomAccessService chatRoomAccessService;
 
+    /**
+     * 최근 메시지 조회
+     * - beforeSeq 가 있으면 그 seq 이전 메시지 (스크롤 업, Redis 에서 trim 된 구간은 MySQL / archive 에서 보충)
+     */
     @GetMapping("/{roomId}/messages")
     public List<ChatMessageDto> loadRecentMessages(
             @PathVariable String roomId,
-            @RequestParam(defaultValue = "50") int limit
+            @RequestParam(required = false) Long beforeSeq,
+            @RequestParam(defaultValue = "50") int limit,
+            Principal principal
     ) {
+        // ✅ 권한 체크(멤버인가?)
+        chatRoomAccessService.assertMember(roomId, principal.getName());
+
         int safeLimit = Math.max(1, Math.min(limit, 200)); // 과도한 요청 방지
-        return chatRedisService.loadRecent(roomId, safeLimit);
+        if (beforeSeq != null) {
+            return chatHistoryService.loadBefore(roomId, beforeSeq, safeLimit);
+        }
+        return chatStore.loadRecent(roomId, safeLimit);
+    }
+
+    /**
+     * 재접속 gap-fill: afterSeq 이후 누락분만 정확히 반환
+     * - Redis 에서 trim 된 구간은 MySQL 에서 보충
+     * - complete=false 면 마지막 seq 를 afterSeq 로 다시 요청
+     */
+    @GetMapping(value = "/{roomId}/messages", params = "afterSeq")
+    public ChatMessageGapResponse loadMessagesAfter(
+            @PathVariable String roomId,
+            @RequestParam long afterSeq,
+            @RequestParam(defaultValue = "200") int limit,
+            Principal principal
+    ) {
+        // ✅ 권한 체크(멤버인가?)
+        chatRoomAccessService.assertMember(roomId, principal.getName());
+
+        int safeLimit = Math.max(1, Math.min(limit, 500));
+        return chatHistoryService.loadAfter(roomId, afterSeq, safeLimit);
     }
 }
@@ -3,7 +3,7 @@ package kr.co.mongmate.api.chat.controller;
 import kr.co.mongmate.api.chat.dto.ChatReadRequest;
 import kr.co.mongmate.api.chat.dto.ChatReadResponse;
 import kr.co.mongmate.api.chat.service.ChatRoomAccessService;
-import kr.co.mongmate.infra.chat.service.ChatRedisService;
+import kr.co.mongmate.infra.chat.store.ChatStore;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
 
@@ -15,7 +15,7 @@ import java.security.Principal;
 @RequestMapping("/api/chat/rooms")
 public class ChatReadController {
 
-    private final ChatRedisService chatRedisService;
+    private final ChatStore chatStore;
     private final ChatRoomAccessService chatRoomAccessService;
 
     @PostMapping("/{roomId}/read")
@@ -28,10 +28,8 @@ public class ChatReadController {
         // ✅ 권한 체크(멤버인가?)
         chatRoomAccessService.assertMember(roomId, userId);
 
-        long current = chatRedisService.getCurrentSeq(roomId);
-        long safeLastRead = Math.min(req.lastReadSeq(), current);
-
-        chatRedisService.setLastReadSeq(roomId, userId, safeLastRead);
-        return new ChatReadResponse(roomId, userId, safeLastRead);
+        // ✅ min(요청, 방 최신 seq) 를 단조 증가로 반영 (Redis 왕복 1회, DB 는 ChatReadStateFlusher 가 주기 반영)
+        long lastRead = chatStore.markRead(roomId, userId, req.lastReadSeq());
+        return new ChatReadResponse(roomId, userId, lastRead);
     }
 }
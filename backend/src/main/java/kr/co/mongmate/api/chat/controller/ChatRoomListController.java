@@ -0,0 +1,25 @@
+package kr.co.mongmate.api.chat.controller;
+
+import kr.co.mongmate.api.chat.dto.ChatRoomSummaryResponse;
+import kr.co.mongmate.api.chat.service.ChatRoomListService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+
+import java.security.Principal;
+import java.util.List;
+
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/api/chat/rooms")
+public class ChatRoomListController {
+
+    private final ChatRoomListService chatRoomListService;
+
+    /** 내 방 목록 (최근 활동 순, 마지막 메시지 요약 포함) */
+    @GetMapping
+    public List<ChatRoomSummaryResponse> getRooms(@RequestParam(defaultValue = "50") int limit,
+                                                  Principal principal) {
+        int safeLimit = Math.max(1, Math.min(limit, 200)); // 과도한 요청 방지
+        return chatRoomListService.loadRooms(Long.valueOf(principal.getName()), safeLimit);
+    }
+}
@@ -2,11 +2,13 @@ package kr.co.mongmate.api.chat.controller;
 
 import kr.co.mongmate.api.chat.dto.ChatRoomStateResponse;
 import kr.co.mongmate.api.chat.service.ChatRoomAccessService;
-import kr.co.mongmate.infra.chat.service.ChatRedisService;
+import kr.co.mongmate.api.chat.service.ChatRoomStateService;
+import kr.co.mongmate.infra.chat.store.ChatStore;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
 
 import java.security.Principal;
+import java.util.List;
 
 
 
@@ -15,8 +17,15 @@ import java.security.Principal;
 @RequestMapping("/api/chat/rooms")
 public class ChatRoomStateController {
 
-    private final ChatRedisService chatRedisService;
+    private final ChatStore chatStore;
     private final ChatRoomAccessService chatRoomAccessService;
+    private final ChatRoomStateService chatRoomStateService;
+
+    /** 내 모든 방의 상태 (채팅 탭 진입 시 1회) */
+    @GetMapping("/state")
+    public List<ChatRoomStateResponse> getAllStates(Principal principal) {
+        return chatRoomStateService.loadAll(Long.valueOf(principal.getName()));
+    }
 
     @GetMapping("/{roomId}/state")
     public ChatRoomStateResponse getState(@PathVariable String roomId, Principal principal) {
@@ -25,8 +34,8 @@ public class ChatRoomStateController {
         // ✅ 권한 체크(멤버인가?)
         chatRoomAccessService.assertMember(roomId, userId);
 
-        long current = chatRedisService.getCurrentSeq(roomId);
-        long lastRead = chatRedisService.getLastReadSeq(roomId, userId);
+        long current = chatStore.getCurrentSeq(roomId);
+        long lastRead = chatStore.getLastReadSeq(roomId, userId);
         long unread = Math.max(0, current - lastRead);
 
         return new ChatRoomStateResponse(roomId, current, lastRead, unread);
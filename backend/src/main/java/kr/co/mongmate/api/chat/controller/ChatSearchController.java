@@ -0,0 +1,37 @@
+package kr.co.mongmate.api.chat.controller;
+
+import kr.co.mongmate.api.chat.dto.ChatMessageSearchResponse;
+import kr.co.mongmate.api.chat.service.ChatRoomAccessService;
+import kr.co.mongmate.api.chat.service.ChatSearchService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+
+import java.security.Principal;
+
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/api/chat/rooms")
+public class ChatSearchController {
+
+    private final ChatSearchService chatSearchService;
+    private final ChatRoomAccessService chatRoomAccessService;
+
+    /**
+     * 방 메시지 검색 (최신순)
+     * - senderId 가 있으면 해당 유저가 보낸 메시지만
+     * - 다음 페이지는 응답의 nextBeforeSeq 를 beforeSeq 로
+     */
+    @GetMapping("/{roomId}/search")
+    public ChatMessageSearchResponse search(@PathVariable String roomId,
+                                            @RequestParam String q,
+                                            @RequestParam(required = false) Long beforeSeq,
+                                            @RequestParam(required = false) Long senderId,
+                                            @RequestParam(defaultValue = "30") int limit,
+                                            Principal principal) {
+        // ✅ 권한 체크(멤버인가?)
+        chatRoomAccessService.assertMember(roomId, principal.getName());
+
+        int safeLimit = Math.max(1, Math.min(limit, 100)); // 과도한 요청 방지
+        return chatSearchService.search(roomId, q, beforeSeq, senderId, safeLimit);
+    }
+}
@@ -0,0 +1,16 @@
+package kr.co.mongmate.api.chat.dto;
+
+import java.util.List;
+
+/**
+ * 재접속 시 누락 구간(afterSeq 이후) 응답
+ * - messages: afterSeq 초과 메시지 (seq 오름차순, 최대 limit 개)
+ * - complete: 빠진 seq 없이 currentSeq 까지 모두 담겼는지 (false 면 마지막 seq 로 다시 요청)
+ */
+public record ChatMessageGapResponse(
+        String roomId,
+        long afterSeq,
+        long currentSeq,
+        List<ChatMessageDto> messages,
+        boolean complete
+) {}
@@ -0,0 +1,13 @@
+package kr.co.mongmate.api.chat.dto;
+
+import java.util.List;
+
+/**
+ * @param nextBeforeSeq 다음 페이지 요청 시 beforeSeq 로 보낼 값 (더 없으면 null)
+ */
+public record ChatMessageSearchResponse(
+        String roomId,
+        String query,
+        List<ChatMessageDto> messages,
+        Long nextBeforeSeq
+) {}
@@ -0,0 +1,12 @@
+package kr.co.mongmate.api.chat.dto;
+
+import java.time.LocalDateTime;
+
+public record ChatRoomSummaryResponse(
+        String roomId,
+        Long lastMessageId,
+        Long lastMessageSeq,
+        String lastMessagePreview,
+        Long lastMessageSenderId,
+        LocalDateTime lastMessageAt
+) {}
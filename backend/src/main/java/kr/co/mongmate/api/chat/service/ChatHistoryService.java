@@ -0,0 +1,157 @@
+package kr.co.mongmate.api.chat.service;
+
+import kr.co.mongmate.api.chat.dto.ChatMessageDto;
+import kr.co.mongmate.api.chat.dto.ChatMessageGapResponse;
+import kr.co.mongmate.domain.chat.entity.ChatMessage;
+import kr.co.mongmate.domain.chat.repository.ChatMessageArchiveJdbcRepository;
+import kr.co.mongmate.domain.chat.repository.ChatMessageArchiveJdbcRepository.ArchivedChatMessage;
+import kr.co.mongmate.domain.chat.repository.ChatMessageRepository;
+import kr.co.mongmate.infra.chat.store.ChatStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 채팅 이력 조회
+ * - 최근 구간은 Redis stream, 이미 trim 된 구간은 MySQL(chat_message.seq) 에서 보충
+ * - MySQL 보충은 먼저 recent-window 안(sent_at 하한)에서 찾아 최근 월 파티션만 읽고, 모자라면 전체 범위로 재조회
+ * - 그래도 앞부분이 비면 hot 기간이 지나 chat_message_archive 로 옮겨진 구간 → archive 에서 이어서 보충
+ */
+@Service
+public class ChatHistoryService {
+
+    private final ChatStore chatStore;
+    private final ChatMessageRepository chatMessageRepository;
+    private final ChatMessageArchiveJdbcRepository chatMessageArchiveRepository;
+    private final Duration recentWindow;
+    private final Clock clock = Clock.systemDefaultZone();
+
+    public ChatHistoryService(
+            ChatStore chatStore,
+            ChatMessageRepository chatMessageRepository,
+            ChatMessageArchiveJdbcRepository chatMessageArchiveRepository,
+            @Value("${chat.history.recent-window:7d}") Duration recentWindow
+    ) {
+        this.chatStore = chatStore;
+        this.chatMessageRepository = chatMessageRepository;
+        this.chatMessageArchiveRepository = chatMessageArchiveRepository;
+        this.recentWindow = recentWindow;
+    }
+
+    /** afterSeq 이후 누락 구간 (재접속 gap-fill) */
+    @Transactional(readOnly = true)
+    public ChatMessageGapResponse loadAfter(String roomId, long afterSeq, int limit) {
+        long currentSeq = chatStore.getCurrentSeq(roomId);
+        if (afterSeq >= currentSeq) {
+            return new ChatMessageGapResponse(roomId, afterSeq, currentSeq, List.of(), true);
+        }
+
+        List<ChatMessageDto> cached = chatStore.loadAfter(roomId, afterSeq, limit);
+        long firstCachedSeq = cached.isEmpty() ? currentSeq + 1 : cached.get(0).seq();
+
+        List<ChatMessageDto> messages = cached;
+        if (firstCachedSeq > afterSeq + 1) {
+            // 앞부분이 Redis 에서 이미 trim 됨 → MySQL 에서 (afterSeq, firstCachedSeq) 보충
+            messages = new ArrayList<>(loadPersisted(roomId, afterSeq, firstCachedSeq, limit));
+            for (ChatMessageDto m : cached) {
+                if (messages.size() >= limit) break;
+                messages.add(m);
+            }
+        }
+
+        return new ChatMessageGapResponse(roomId, afterSeq, currentSeq, messages,
+                isComplete(messages, afterSeq, currentSeq));
+    }
+
+    /** beforeSeq 미만 최신 limit 개를 오래된 순으로 (스크롤 업), Redis → chat_message → archive 순으로 이어 붙임 */
+    @Transactional(readOnly = true)
+    public List<ChatMessageDto> loadBefore(String roomId, long beforeSeq, int limit) {
+        List<ChatMessageDto> cached = chatStore.loadBefore(roomId, beforeSeq, limit);
+        if (cached.size() >= limit) return cached;
+
+        long oldest = cached.isEmpty() ? beforeSeq : cached.get(0).seq();
+        if (oldest <= 1) return cached;
+
+        Long threadId = Long.valueOf(roomId);
+        int remaining = limit - cached.size();
+        List<ChatMessage> hot = chatMessageRepository.findLatestBefore(threadId, oldest, PageRequest.of(0, remaining));
+
+        List<ChatMessageDto> messages = new ArrayList<>(limit);
+        if (hot.size() < remaining) {
+            long archiveBefore = hot.isEmpty() ? oldest : hot.get(hot.size() - 1).getSeq();
+            for (ArchivedChatMessage m : chatMessageArchiveRepository.findLatestBefore(threadId, archiveBefore, remaining - hot.size())) {
+                messages.add(fromArchive(roomId, m));
+            }
+        }
+        for (int i = hot.size() - 1; i >= 0; i--) {
+            messages.add(toDto(roomId, hot.get(i)));
+        }
+        messages.addAll(cached);
+        return messages;
+    }
+
+    private List<ChatMessageDto> loadPersisted(String roomId, long afterSeq, long beforeSeq, int limit) {
+        Long threadId = Long.valueOf(roomId);
+        // 엔티티 sentAt 과 같은 JVM 기본 zone 기준 (UTC 변환은 hibernate.jdbc.time_zone 이 처리)
+        LocalDateTime since = LocalDateTime.now(clock).minus(recentWindow);
+        List<ChatMessage> rows = chatMessageRepository.findSeqRangeSince(
+                threadId, afterSeq, beforeSeq, since, PageRequest.of(0, limit));
+
+        // 구간 앞부분이 recent-window 밖이면 seq 가 이어지지 않음 → 파티션 전체에서 다시 조회
+        long expected = Math.min(limit, beforeSeq - afterSeq - 1);
+        if (rows.size() < expected || (!rows.isEmpty() && rows.get(0).getSeq() != afterSeq + 1)) {
+            rows = chatMessageRepository.findSeqRange(threadId, afterSeq, beforeSeq, PageRequest.of(0, limit));
+        }
+
+        List<ChatMessageDto> persisted = rows.stream().map(m -> toDto(roomId, m)).toList();
+
+        // 앞부분이 chat_message 에도 없으면 archive 로 옮겨진 구간 → archive 에서 채우고 hot 구간을 이어 붙임
+        long firstHotSeq = rows.isEmpty() ? beforeSeq : rows.get(0).getSeq();
+        if (firstHotSeq <= afterSeq + 1) return persisted;
+
+        List<ArchivedChatMessage> archived = chatMessageArchiveRepository.findSeqRange(threadId, afterSeq, firstHotSeq, limit);
+        if (archived.isEmpty()) return persisted;
+
+        List<ChatMessageDto> messages = new ArrayList<>(limit);
+        for (ArchivedChatMessage m : archived) {
+            messages.add(fromArchive(roomId, m));
+        }
+        for (ChatMessageDto m : persisted) {
+            if (messages.size() >= limit) break;
+            messages.add(m);
+        }
+        return messages;
+    }
+
+    /** afterSeq+1 부터 빠진 seq 없이 currentSeq 까지 도달했는지 */
+    private static boolean isComplete(List<ChatMessageDto> messages, long afterSeq, long currentSeq) {
+        long expected = afterSeq + 1;
+        for (ChatMessageDto m : messages) {
+            if (m.seq() != expected) return false;
+            expected++;
+        }
+        return expected - 1 == currentSeq;
+    }
+
+    private static ChatMessageDto toDto(String roomId, ChatMessage m) {
+        return new ChatMessageDto(
+                roomId,
+                m.getSeq(),
+                String.valueOf(m.getSender().getId()),
+                m.getContent(),
+                m.getSentAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+        );
+    }
+
+    private static ChatMessageDto fromArchive(String roomId, ArchivedChatMessage m) {
+        return new ChatMessageDto(roomId, m.seq(), String.valueOf(m.senderId()), m.content(), m.sentAtMillis());
+    }
+}
@@ -0,0 +1,104 @@
+package kr.co.mongmate.api.chat.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import kr.co.mongmate.domain.chat.event.ChatMembershipChangedEvent;
+import kr.co.mongmate.domain.chat.repository.ChatReadStateRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 채팅방 멤버십 로컬 캐시 (threadId, userId) → 멤버 여부
+ *
+ * - SUBSCRIBE / SEND / read / state 마다 나가던 exists 쿼리를 흡수
+ * - 멤버(positive)는 길게, 비멤버(negative)는 짧게 보관
+ * - 방 멤버 목록(threadId → userIds)도 같이 캐시 (unread 푸시 대상 계산용)
+ * - chat_read_state row 생성/삭제가 커밋되면 해당 키를 무효화 (relay=redis 면 ChatMembershipInvalidationRelay 가 다른 노드에도 전파)
+ * - hit/miss 는 actuator metrics 의 cache.* (cache=chat.membership) 로 노출
+ */
+@Component
+public class ChatMembershipCache {
+
+    private static final String CACHE_NAME = "chat.membership";
+    private static final String MEMBERS_CACHE_NAME = "chat.members";
+
+    private final ChatReadStateRepository chatReadStateRepository;
+    private final Cache<MembershipKey, Boolean> cache;
+    private final Cache<Long, List<Long>> members;
+
+    public ChatMembershipCache(
+            ChatReadStateRepository chatReadStateRepository,
+            MeterRegistry meterRegistry,
+            @Value("${chat.membership-cache.max-size:100000}") long maxSize,
+            @Value("${chat.membership-cache.positive-ttl:10m}") Duration positiveTtl,
+            @Value("${chat.membership-cache.negative-ttl:30s}") Duration negativeTtl
+    ) {
+        this.chatReadStateRepository = chatReadStateRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new MembershipExpiry(positiveTtl.toNanos(), negativeTtl.toNanos()))
+                .recordStats()
+                .build();
+
+        this.members = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(positiveTtl)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        CaffeineCacheMetrics.monitor(meterRegistry, members, MEMBERS_CACHE_NAME);
+    }
+
+    public boolean isMember(Long threadId, Long userId) {
+        return cache.get(
+                new MembershipKey(threadId, userId),
+                k -> chatReadStateRepository.existsByIdThreadIdAndIdUserId(k.threadId(), k.userId())
+        );
+    }
+
+    /** 방 멤버 userId 목록 */
+    public List<Long> members(Long threadId) {
+        return members.get(threadId, id -> List.copyOf(chatReadStateRepository.findUserIdsByThreadId(id)));
+    }
+
+    public void invalidate(Long threadId, Long userId) {
+        cache.invalidate(new MembershipKey(threadId, userId));
+        members.invalidate(threadId);
+    }
+
+    /** 커밋 이후에 무효화해야 커밋 전 상태가 다시 캐시에 올라오지 않는다. */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMembershipChanged(ChatMembershipChangedEvent event) {
+        invalidate(event.threadId(), event.userId());
+    }
+
+    private record MembershipKey(Long threadId, Long userId) {}
+
+    private record MembershipExpiry(long positiveTtlNanos, long negativeTtlNanos)
+            implements Expiry<MembershipKey, Boolean> {
+
+        @Override
+        public long expireAfterCreate(MembershipKey key, Boolean member, long currentTime) {
+            return member ? positiveTtlNanos : negativeTtlNanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(MembershipKey key, Boolean member, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, member, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(MembershipKey key, Boolean member, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
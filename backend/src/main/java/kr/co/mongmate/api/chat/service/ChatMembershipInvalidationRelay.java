@@ -0,0 +1,68 @@
+package kr.co.mongmate.api.chat.service;
+
+import jakarta.annotation.PostConstruct;
+import kr.co.mongmate.domain.chat.event.ChatMembershipChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 멤버십 캐시 무효화를 다른 노드에 전파 (chat.broadcast.relay=redis)
+ *
+ * - 로컬 무효화는 ChatMembershipCache 가 직접 처리하고, 여기서는 커밋 후 "threadId:userId" 를 PUBLISH 만 한다.
+ * - 모든 노드가 채널을 구독하고 받은 키를 무효화 (자기 자신이 보낸 것도 받지만 한 번 더 지우는 것뿐)
+ * - 전파가 유실되어도 positive-ttl 이 지나면 DB 에서 다시 확인한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "chat.broadcast.relay", havingValue = "redis")
+public class ChatMembershipInvalidationRelay implements MessageListener {
+
+    static final String CHANNEL = "chat:membership:invalidate";
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer chatRelayListenerContainer;
+    private final ChatMembershipCache chatMembershipCache;
+
+    @PostConstruct
+    void subscribe() {
+        chatRelayListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMembershipChanged(ChatMembershipChangedEvent event) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL, event.threadId() + ":" + event.userId());
+        } catch (Exception e) {
+            log.warn("[CHAT-MEMBERSHIP] invalidation publish failed thread={} user={} : {}",
+                    event.threadId(), event.userId(), e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int sep = body.indexOf(':');
+        if (sep <= 0) {
+            log.warn("[CHAT-MEMBERSHIP] invalid invalidation message={}", body);
+            return;
+        }
+
+        try {
+            chatMembershipCache.invalidate(Long.valueOf(body.substring(0, sep)), Long.valueOf(body.substring(sep + 1)));
+        } catch (NumberFormatException e) {
+            log.warn("[CHAT-MEMBERSHIP] invalid invalidation message={}", body);
+        }
+    }
+}
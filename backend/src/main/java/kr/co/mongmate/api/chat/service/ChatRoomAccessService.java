@@ -1,6 +1,5 @@
 package kr.co.mongmate.api.chat.service;
 
-import kr.co.mongmate.domain.chat.repository.ChatReadStateRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -8,14 +7,17 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class ChatRoomAccessService {
 
-    private final ChatReadStateRepository chatReadStateRepository;
+    private final ChatMembershipCache chatMembershipCache;
 
     public void assertMember(String roomId, String userId) {
+        if (!isMember(roomId, userId)) throw new ForbiddenChatRoomAccessException("Not a member of room: " + roomId);
+    }
+
+    public boolean isMember(String roomId, String userId) {
         Long threadId = parseLongOrThrow(roomId, "roomId");
         Long uid = parseLongOrThrow(userId, "userId");
 
-        boolean ok = chatReadStateRepository.existsByIdThreadIdAndIdUserId(threadId, uid);
-        if (!ok) throw new ForbiddenChatRoomAccessException("Not a member of room: " + roomId);
+        return chatMembershipCache.isMember(threadId, uid);
     }
 
     private Long parseLongOrThrow(String value, String field) {
@@ -0,0 +1,34 @@
+package kr.co.mongmate.api.chat.service;
+
+import kr.co.mongmate.api.chat.dto.ChatRoomSummaryResponse;
+import kr.co.mongmate.domain.chat.repository.ChatReadStateRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 채팅 방 목록 (최근 메시지 순, chat_thread.last_message_at)
+ * - chat_thread 에 비정규화된 마지막 메시지 요약을 읽으므로 방마다 chat_message 를 조회하지 않는다.
+ */
+@Service
+@RequiredArgsConstructor
+public class ChatRoomListService {
+
+    private final ChatReadStateRepository chatReadStateRepository;
+
+    @Transactional(readOnly = true)
+    public List<ChatRoomSummaryResponse> loadRooms(Long userId, int limit) {
+        return chatReadStateRepository.findRoomSummaries(userId, PageRequest.of(0, limit)).stream()
+                .map(r -> new ChatRoomSummaryResponse(
+                        String.valueOf(r.threadId()),
+                        r.lastMessageId(),
+                        r.lastMessageSeq(),
+                        r.lastMessagePreview(),
+                        r.lastMessageSenderId(),
+                        r.lastMessageAt()))
+                .toList();
+    }
+}
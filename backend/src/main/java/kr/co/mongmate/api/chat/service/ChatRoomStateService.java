@@ -0,0 +1,47 @@
+package kr.co.mongmate.api.chat.service;
+
+import kr.co.mongmate.api.chat.dto.ChatRoomStateResponse;
+import kr.co.mongmate.domain.chat.repository.ChatReadStateRepository;
+import kr.co.mongmate.domain.chat.repository.UserRoomReadState;
+import kr.co.mongmate.infra.chat.store.ChatStore;
+import kr.co.mongmate.infra.chat.store.ChatStore.RoomSeqState;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 채팅 탭(전체 방) 상태 조회
+ * - 방 목록: chat_read_state 에서 user_id 로 한 번 (멤버십 체크 겸용)
+ * - 최신 seq / 읽음 seq: Redis 파이프라인 1회
+ */
+@Service
+@RequiredArgsConstructor
+public class ChatRoomStateService {
+
+    private final ChatReadStateRepository chatReadStateRepository;
+    private final ChatStore chatStore;
+
+    @Transactional(readOnly = true)
+    public List<ChatRoomStateResponse> loadAll(Long userId) {
+        List<UserRoomReadState> rooms = chatReadStateRepository.findRoomsByUserId(userId);
+        if (rooms.isEmpty()) return List.of();
+
+        List<String> roomIds = rooms.stream().map(r -> String.valueOf(r.threadId())).toList();
+        List<RoomSeqState> seqStates = chatStore.getRoomSeqStates(roomIds, String.valueOf(userId));
+
+        List<ChatRoomStateResponse> result = new ArrayList<>(rooms.size());
+        for (int i = 0; i < rooms.size(); i++) {
+            RoomSeqState s = seqStates.get(i);
+            // Redis 커서가 유실된 경우 DB 에 flush 된 값으로 보완
+            Long persisted = rooms.get(i).lastReadSeq();
+            long lastRead = Math.max(s.lastReadSeq(), persisted != null ? persisted : 0L);
+            long unread = Math.max(0, s.currentSeq() - lastRead);
+
+            result.add(new ChatRoomStateResponse(s.roomId(), s.currentSeq(), lastRead, unread));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,86 @@
+package kr.co.mongmate.api.chat.service;
+
+import kr.co.mongmate.api.chat.dto.ChatMessageDto;
+import kr.co.mongmate.api.chat.dto.ChatMessageSearchResponse;
+import kr.co.mongmate.domain.chat.entity.ChatMessage;
+import kr.co.mongmate.domain.chat.repository.ChatMessageArchiveJdbcRepository;
+import kr.co.mongmate.domain.chat.repository.ChatMessageArchiveJdbcRepository.ArchivedChatMessage;
+import kr.co.mongmate.domain.chat.repository.ChatMessageNgramJdbcRepository;
+import kr.co.mongmate.domain.chat.repository.ChatMessageRepository;
+import kr.co.mongmate.domain.chat.search.ChatNgramTokenizer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 방 단위 채팅 검색 (chat_message_ngram bi-gram 역색인)
+ *
+ * 1) 검색어 bi-gram 을 모두 가진 seq 를 최신순으로 (색인만 range scan, 본문 LIKE 없음)
+ * 2) 후보 seq 의 원문을 seq 로 조회해서 검색어 구간이 실제로 들어있는지 재확인 (gram 순서가 다른 오탐 제거)
+ *    chat_message 에 없는 seq 는 파티션에서 옮겨진 메시지 → chat_message_archive 에서 조회 (색인은 archive 후에도 유지)
+ */
+@Service
+@RequiredArgsConstructor
+public class ChatSearchService {
+
+    private final ChatMessageNgramJdbcRepository chatMessageNgramJdbcRepository;
+    private final ChatMessageRepository chatMessageRepository;
+    private final ChatMessageArchiveJdbcRepository chatMessageArchiveRepository;
+
+    @Transactional(readOnly = true)
+    public ChatMessageSearchResponse search(String roomId, String query, Long beforeSeq, Long senderId, int limit) {
+        Set<String> grams = ChatNgramTokenizer.bigrams(query);
+        if (grams.isEmpty()) {
+            // 글자/숫자 2자 미만 검색어는 bi-gram 이 없어 색인으로 찾을 수 없음 → 빈 결과 (500 대신)
+            return new ChatMessageSearchResponse(roomId, query, List.of(), null);
+        }
+
+        Long threadId = Long.valueOf(roomId);
+        List<Long> seqs = chatMessageNgramJdbcRepository.findSeqsContainingAll(threadId, grams, beforeSeq, senderId, limit);
+        if (seqs.isEmpty()) {
+            return new ChatMessageSearchResponse(roomId, query, List.of(), null);
+        }
+
+        List<String> terms = ChatNgramTokenizer.terms(query);
+        List<ChatMessageDto> messages = new ArrayList<>(seqs.size());
+        Set<Long> missing = new HashSet<>(seqs);
+        for (ChatMessage m : chatMessageRepository.findBySeqIn(threadId, seqs)) {
+            missing.remove(m.getSeq());
+            if (containsAll(m.getContent(), terms)) {
+                messages.add(toDto(roomId, m));
+            }
+        }
+        if (!missing.isEmpty()) {
+            for (ArchivedChatMessage m : chatMessageArchiveRepository.findBySeqIn(threadId, missing)) {
+                if (containsAll(m.content(), terms)) {
+                    messages.add(new ChatMessageDto(roomId, m.seq(), String.valueOf(m.senderId()), m.content(), m.sentAtMillis()));
+                }
+            }
+            messages.sort(Comparator.comparingLong(ChatMessageDto::seq).reversed());
+        }
+
+        // 후보가 limit 만큼 찼으면 더 있을 수 있음 → 마지막 후보 seq 부터 이어서
+        Long next = seqs.size() < limit ? null : seqs.get(seqs.size() - 1);
+        return new ChatMessageSearchResponse(roomId, query, messages, next);
+    }
+
+    private static boolean containsAll(String content, List<String> terms) {
+        String normalized = ChatNgramTokenizer.normalize(content);
+        for (String term : terms) {
+            if (!normalized.contains(term)) return false;
+        }
+        return true;
+    }
+
+    private static ChatMessageDto toDto(String roomId, ChatMessage m) {
+        long timestamp = m.getSentAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        return new ChatMessageDto(roomId, m.getSeq(), String.valueOf(m.getSender().getId()), m.getContent(), timestamp);
+    }
+}
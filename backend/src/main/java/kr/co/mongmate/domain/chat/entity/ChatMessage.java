@@ -13,7 +13,8 @@ import lombok.NoArgsConstructor;
 @Table(
         name = "chat_message",
         indexes = {
-                @Index(name = "idx_cm_thread_time", columnList = "thread_id, sent_at")
+                @Index(name = "idx_cm_thread_time", columnList = "thread_id, sent_at"),
+                @Index(name = "idx_cm_thread_seq", columnList = "thread_id, seq")
         }
 )
 @Getter
@@ -25,14 +26,19 @@ public class ChatMessage {
     @Column(name = "id", nullable = false, updatable = false)
     private Long id;
 
+    // sent_at 월 파티션 테이블이라 FK 를 둘 수 없음 (mysql/migration/018_partition_chat_message.sql)
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
-    @JoinColumn(name = "thread_id", nullable = false)
+    @JoinColumn(name = "thread_id", nullable = false, foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
     private ChatThread chatThread;
 
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
-    @JoinColumn(name = "sender_user_id", nullable = false)
+    @JoinColumn(name = "sender_user_id", nullable = false, foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
     private User sender;
 
+    // 방별 메시지 순번 (Redis 에서 발급). 도입 이전 row 는 null
+    @Column(name = "seq")
+    private Long seq;
+
     @Lob
     @Column(name = "content", nullable = false)
     private String content;
@@ -40,23 +46,20 @@ public class ChatMessage {
     @Column(name = "sent_at", nullable = false, updatable = false)
     private LocalDateTime sentAt;
 
-    @Column(name = "is_read", nullable = false)
-    private Boolean read = false;
-
     private ChatMessage(
             Long id,
             ChatThread chatThread,
             User sender,
+            Long seq,
             String content,
-            LocalDateTime sentAt,
-            Boolean read
+            LocalDateTime sentAt
     ) {
         this.id = id;
         this.chatThread = Objects.requireNonNull(chatThread, "chatThread must not be null");
         this.sender = Objects.requireNonNull(sender, "sender must not be null");
+        this.seq = seq;
         this.content = Objects.requireNonNull(content, "content must not be null");
         this.sentAt = sentAt != null ? sentAt : LocalDateTime.now();
-        this.read = read != null ? read : Boolean.FALSE;
     }
 
     /**
@@ -68,14 +71,10 @@ public class ChatMessage {
         return new ChatMessageBuilder();
     }
 
-    // 메세지 읽음 확인
-    public void markAsRead() {
-        this.read = Boolean.TRUE;
-    }
-
     /**
      * 메시지의 소유자(발신자)가 candidate 사용자와 동일한지 여부를 반환.
-     * 채팅 UI 정렬, 읽음 처리, 권한 검증 등 도메인 판단 로직에 사용.
+     * 채팅 UI 정렬, 권한 검증 등 도메인 판단 로직에 사용.
+     * (읽음 여부는 메시지가 아니라 ChatReadState 의 seq watermark 로 판단 → ChatReadState#hasRead)
      */
     public boolean isSentBy(User candidate) {
         return candidate != null
@@ -87,9 +86,9 @@ public class ChatMessage {
         private Long id;
         private ChatThread chatThread;
         private User sender;
+        private Long seq;
         private String content;
         private LocalDateTime sentAt;
-        private Boolean read;
 
         private ChatMessageBuilder() {
         }
@@ -109,6 +108,11 @@ public class ChatMessage {
             return this;
         }
 
+        public ChatMessageBuilder seq(Long seq) {
+            this.seq = seq;
+            return this;
+        }
+
         public ChatMessageBuilder content(String content) {
             this.content = content;
             return this;
@@ -119,13 +123,8 @@ public class ChatMessage {
             return this;
         }
 
-        public ChatMessageBuilder read(Boolean read) {
-            this.read = read;
-            return this;
-        }
-
         public ChatMessage build() {
-            return new ChatMessage(id, chatThread, sender, content, sentAt, read);
+            return new ChatMessage(id, chatThread, sender, seq, content, sentAt);
         }
     }
 }
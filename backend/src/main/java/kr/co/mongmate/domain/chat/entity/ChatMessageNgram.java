@@ -0,0 +1,29 @@
+package kr.co.mongmate.domain.chat.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 채팅 검색용 bi-gram 역색인 (thread_id, gram, seq)
+ *
+ * - PK 순서가 곧 검색 순서: 방 + gram 으로 range scan 하면 seq 순 posting list
+ * - 쓰기는 ChatMessageNgramJdbcRepository 가 메시지 저장 직후 batch 로 (엔티티는 스키마 정의용)
+ * - sender_user_id 는 PK(클러스터드) row 에 같이 있어서 보낸 사람 필터가 추가 조회 없이 가능
+ */
+@Entity
+@Table(name = "chat_message_ngram")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ChatMessageNgram {
+
+    @EmbeddedId
+    private ChatMessageNgramId id;
+
+    @Column(name = "sender_user_id", nullable = false)
+    private Long senderUserId;
+}
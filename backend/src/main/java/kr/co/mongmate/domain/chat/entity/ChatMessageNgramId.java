@@ -0,0 +1,25 @@
+package kr.co.mongmate.domain.chat.entity;
+
+import java.io.Serializable;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Embeddable
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EqualsAndHashCode
+public class ChatMessageNgramId implements Serializable {
+
+    @Column(name = "thread_id", nullable = false)
+    private Long threadId;
+
+    @Column(name = "gram", nullable = false, length = 2)
+    private String gram;
+
+    @Column(name = "seq", nullable = false)
+    private Long seq;
+}
@@ -3,9 +3,12 @@ package kr.co.mongmate.domain.chat.entity;
 import java.time.LocalDateTime;
 import java.util.Objects;
 import jakarta.persistence.Column;
+import jakarta.persistence.ConstraintMode;
 import jakarta.persistence.EmbeddedId;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.FetchType;
+import jakarta.persistence.ForeignKey;
 import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
@@ -23,6 +26,7 @@ import lombok.NoArgsConstructor;
         @Index(name = "idx_crs_user", columnList = "user_id, thread_id")
     }
 )
+@EntityListeners(ChatReadStateListener.class)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class ChatReadState {
@@ -40,10 +44,15 @@ public class ChatReadState {
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
+    // chat_message 는 파티션 테이블이라 참조 FK 불가
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "last_read_message_id")
+    @JoinColumn(name = "last_read_message_id", foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
     private ChatMessage lastReadMessage;
 
+    // Redis 읽음 커서(seq)의 DB 사본 — ChatReadStateFlusher 가 주기적으로 갱신
+    @Column(name = "last_read_seq")
+    private Long lastReadSeq;
+
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
 
@@ -93,9 +102,29 @@ public class ChatReadState {
         }
 
         this.lastReadMessage = lastReadMessage;
+        advanceLastReadSeq(lastReadMessage.getSeq());
         this.updatedAt = timestamp;
     }
 
+    /**
+     * 해당 seq 의 메시지를 읽었는지 (seq <= lastReadSeq)
+     * 메시지 row 에 읽음 플래그를 두지 않고 (room, user) 당 watermark 하나로 판단한다.
+     */
+    public boolean hasRead(long seq) {
+        return lastReadSeq != null && seq <= lastReadSeq;
+    }
+
+    public boolean hasRead(ChatMessage message) {
+        return message.getSeq() != null && hasRead(message.getSeq());
+    }
+
+    // watermark 는 뒤로 가지 않음 (Redis MARK_READ 와 동일)
+    private void advanceLastReadSeq(Long seq) {
+        if (seq != null && (lastReadSeq == null || seq > lastReadSeq)) {
+            this.lastReadSeq = seq;
+        }
+    }
+
     private void syncIdentifier() {
         if (this.chatThread == null || this.user == null) {
             return;
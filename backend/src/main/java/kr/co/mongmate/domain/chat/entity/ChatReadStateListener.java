@@ -0,0 +1,29 @@
+package kr.co.mongmate.domain.chat.entity;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import kr.co.mongmate.domain.chat.event.ChatMembershipChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * ChatReadState 생성/삭제 시 멤버십 변경 이벤트 발행
+ * - Hibernate 가 SpringBeanContainer 로 생성하므로 의존성 주입 가능
+ * - JPQL bulk delete 는 콜백이 안 불리므로 그 경우엔 직접 이벤트를 발행해야 한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ChatReadStateListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    @PostRemove
+    void onMembershipChanged(ChatReadState state) {
+        ChatReadStateId id = state.getId();
+        if (id == null || id.getThreadId() == null || id.getUserId() == null) return;
+
+        eventPublisher.publishEvent(new ChatMembershipChangedEvent(id.getThreadId(), id.getUserId()));
+    }
+}
@@ -49,6 +49,23 @@ public class ChatThread {
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
+    // ---- 마지막 메시지 요약 (방 목록용 비정규화, ChatThreadJdbcRepository 가 저장 경로에서 갱신) ----
+
+    @Column(name = "last_message_id")
+    private Long lastMessageId;
+
+    @Column(name = "last_message_seq")
+    private Long lastMessageSeq;
+
+    @Column(name = "last_message_preview", length = 100)
+    private String lastMessagePreview;
+
+    @Column(name = "last_message_sender_id")
+    private Long lastMessageSenderId;
+
+    @Column(name = "last_message_at")
+    private LocalDateTime lastMessageAt;
+
     @OneToMany(
             mappedBy = "chatThread",
             cascade = CascadeType.ALL   // 메시지는 스레드 라이프사이클에 따라 생성/삭제
@@ -0,0 +1,10 @@
+package kr.co.mongmate.domain.chat.event;
+
+/**
+ * 채팅방 멤버십(chat_read_state row) 생성/삭제 이벤트
+ * - 멤버십 캐시 무효화에 사용
+ */
+public record ChatMembershipChangedEvent(
+        Long threadId,
+        Long userId
+) {}
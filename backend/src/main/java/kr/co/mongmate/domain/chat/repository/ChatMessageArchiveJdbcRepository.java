@@ -0,0 +1,89 @@
+package kr.co.mongmate.domain.chat.repository;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.TimeZone;
+
+/**
+ * chat_message_archive 조회 (hot 기간이 지나 파티션에서 옮겨진 메시지)
+ * - idx_cma_thread_seq (thread_id, seq) 로만 조회
+ * - 테이블은 mysql/migration/018 에서 만들어지므로 chat.persistence.partition.enabled=false 면 조회하지 않고 빈 결과
+ */
+@Repository
+public class ChatMessageArchiveJdbcRepository {
+
+    private static final String SEQ_RANGE_SQL = """
+            SELECT seq, sender_user_id, content, sent_at FROM chat_message_archive
+            WHERE thread_id = ? AND seq > ? AND seq < ?
+            ORDER BY seq ASC LIMIT ?
+            """;
+
+    private static final String BEFORE_SQL = """
+            SELECT seq, sender_user_id, content, sent_at FROM chat_message_archive
+            WHERE thread_id = ? AND seq < ?
+            ORDER BY seq DESC LIMIT ?
+            """;
+
+    // ChatMessageJdbcRepository 와 같이 sent_at 은 UTC 로 저장됨
+    private static final TimeZone JDBC_TIME_ZONE = TimeZone.getTimeZone("UTC");
+
+    private static final RowMapper<ArchivedChatMessage> ROW_MAPPER = (rs, i) -> new ArchivedChatMessage(
+            rs.getLong("seq"),
+            rs.getLong("sender_user_id"),
+            rs.getString("content"),
+            rs.getTimestamp("sent_at", Calendar.getInstance(JDBC_TIME_ZONE)).getTime()
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+
+    public ChatMessageArchiveJdbcRepository(
+            JdbcTemplate jdbcTemplate,
+            @Value("${chat.persistence.partition.enabled:false}") boolean enabled
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+    }
+
+    /** afterSeq < seq < beforeSeq 구간을 seq 오름차순으로 최대 limit 개 */
+    public List<ArchivedChatMessage> findSeqRange(Long threadId, long afterSeq, long beforeSeq, int limit) {
+        if (!enabled || beforeSeq - afterSeq <= 1 || limit <= 0) return List.of();
+        return jdbcTemplate.query(SEQ_RANGE_SQL, ROW_MAPPER, threadId, afterSeq, beforeSeq, limit);
+    }
+
+    /** beforeSeq 미만 중 최신 limit 개를 seq 오름차순으로 */
+    public List<ArchivedChatMessage> findLatestBefore(Long threadId, long beforeSeq, int limit) {
+        if (!enabled || beforeSeq <= 1 || limit <= 0) return List.of();
+        List<ArchivedChatMessage> rows = new ArrayList<>(jdbcTemplate.query(BEFORE_SQL, ROW_MAPPER, threadId, beforeSeq, limit));
+        Collections.reverse(rows);
+        return rows;
+    }
+
+    /** 검색 후보 seq 중 archive 에 있는 것 (seq 내림차순) */
+    public List<ArchivedChatMessage> findBySeqIn(Long threadId, Collection<Long> seqs) {
+        if (!enabled || seqs.isEmpty()) return List.of();
+
+        StringBuilder sql = new StringBuilder(
+                "SELECT seq, sender_user_id, content, sent_at FROM chat_message_archive WHERE thread_id = ? AND seq IN (");
+        List<Object> args = new ArrayList<>();
+        args.add(threadId);
+        int i = 0;
+        for (Long seq : seqs) {
+            sql.append(i++ == 0 ? "?" : ", ?");
+            args.add(seq);
+        }
+        sql.append(") ORDER BY seq DESC");
+        return jdbcTemplate.query(sql.toString(), ROW_MAPPER, args.toArray());
+    }
+
+    /** @param sentAtMillis sent_at (epoch millis) */
+    public record ArchivedChatMessage(long seq, long senderId, String content, long sentAtMillis) {}
+}
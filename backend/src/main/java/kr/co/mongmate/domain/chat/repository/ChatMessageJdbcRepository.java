@@ -0,0 +1,59 @@
+package kr.co.mongmate.domain.chat.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.util.Calendar;
+import java.util.List;
+import java.util.TimeZone;
+
+/**
+ * chat_message 대량 저장용 JDBC 레포지토리
+ * - ChatMessage 는 IDENTITY 전략이라 Hibernate batch insert 가 불가능 → JdbcTemplate 로 직접 batch
+ * - MySQL 은 rewriteBatchedStatements=true 로 multi-row INSERT 로 재작성된다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ChatMessageJdbcRepository {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO chat_message (thread_id, sender_user_id, seq, content, sent_at)
+            VALUES (?, ?, ?, ?, ?)
+            """;
+
+    // archive 로 옮겨진 방은 chat_message 에 row 가 없을 수 있어 chat_thread.last_message_seq 와 큰 쪽
+    private static final String SELECT_MAX_SEQ_SQL = """
+            SELECT GREATEST(
+                COALESCE((SELECT MAX(seq) FROM chat_message WHERE thread_id = ?), 0),
+                COALESCE((SELECT last_message_seq FROM chat_thread WHERE id = ?), 0))
+            """;
+
+    // hibernate.jdbc.time_zone=UTC 와 동일하게 바인딩 (JPA 로 저장한 row 와 sent_at 기준을 맞춤)
+    private static final TimeZone JDBC_TIME_ZONE = TimeZone.getTimeZone("UTC");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Transactional
+    public void batchInsert(List<PendingChatMessage> messages) {
+        if (messages.isEmpty()) return;
+
+        Calendar calendar = Calendar.getInstance(JDBC_TIME_ZONE);
+        jdbcTemplate.batchUpdate(INSERT_SQL, messages, messages.size(), (ps, m) -> {
+            ps.setLong(1, m.threadId());
+            ps.setLong(2, m.senderId());
+            ps.setObject(3, m.seq());
+            ps.setString(4, m.content());
+            ps.setTimestamp(5, Timestamp.valueOf(m.sentAt()), calendar);
+        });
+    }
+
+    /** 방에 저장된 마지막 seq (없으면 0) — 프로세스 내 seq 유실 시 복구용 */
+    @Transactional(readOnly = true)
+    public long findMaxSeq(long threadId) {
+        Long seq = jdbcTemplate.queryForObject(SELECT_MAX_SEQ_SQL, Long.class, threadId, threadId);
+        return seq != null ? seq : 0L;
+    }
+}
@@ -0,0 +1,116 @@
+package kr.co.mongmate.domain.chat.repository;
+
+import kr.co.mongmate.domain.chat.search.ChatNgramTokenizer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * chat_message_ngram 색인 쓰기 / posting 조회
+ * - INSERT IGNORE: flush 재시도 시 같은 (thread, gram, seq) 가 다시 들어와도 무시
+ * - 검색: 가장 드문 gram 의 posting 을 seq keyset 으로 훑으며 나머지 gram 은 EXISTS 로 확인 (AND)
+ */
+@Repository
+@RequiredArgsConstructor
+public class ChatMessageNgramJdbcRepository {
+
+    private static final String INSERT_SQL = """
+            INSERT IGNORE INTO chat_message_ngram (thread_id, gram, seq, sender_user_id)
+            VALUES (?, ?, ?, ?)
+            """;
+
+    /** gram 당 posting 수를 셀 상한 (이보다 많으면 "흔함" 으로 같게 취급) */
+    static final int RARITY_PROBE_LIMIT = 10_000;
+
+    private static final String COUNT_PROBE_SQL = """
+            SELECT COUNT(*) FROM (
+                SELECT 1 FROM chat_message_ngram WHERE thread_id = ? AND gram = ? LIMIT ?
+            ) t
+            """;
+
+    private static final String COUNT_PROBE_BEFORE_SQL = """
+            SELECT COUNT(*) FROM (
+                SELECT 1 FROM chat_message_ngram WHERE thread_id = ? AND gram = ? AND seq < ? LIMIT ?
+            ) t
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Transactional
+    public void index(List<PendingChatMessage> messages) {
+        List<Object[]> rows = new ArrayList<>();
+        for (PendingChatMessage m : messages) {
+            if (m.seq() == null) continue;
+            for (String gram : ChatNgramTokenizer.bigrams(m.content())) {
+                rows.add(new Object[]{m.threadId(), gram, m.seq(), m.senderId()});
+            }
+        }
+        if (rows.isEmpty()) return;
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+    }
+
+    /**
+     * grams 를 모두 포함하는 seq 를 최신순으로 최대 limit 개
+     *
+     * - 가장 드문 gram 의 posting 을 seq 역순으로 훑고, 나머지 gram 은 PK (thread_id, gram, seq) 점조회 EXISTS 로 확인
+     * - LIMIT 이 찰 때까지만 읽으므로 흔한 gram ("ㅋㅋ" 등) 의 posting list 전체를 읽지 않는다.
+     * @param beforeSeq 이 seq 미만만 (페이지네이션, null 이면 처음부터)
+     * @param senderId  보낸 사람 필터 (null 이면 전체)
+     */
+    public List<Long> findSeqsContainingAll(Long threadId, Collection<String> grams,
+                                            Long beforeSeq, Long senderId, int limit) {
+        if (grams.isEmpty()) return List.of();
+
+        String driving = rarest(threadId, grams, beforeSeq);
+
+        StringBuilder sql = new StringBuilder("SELECT n0.seq FROM chat_message_ngram n0 WHERE n0.thread_id = ? AND n0.gram = ?");
+        List<Object> args = new ArrayList<>();
+        args.add(threadId);
+        args.add(driving);
+        if (beforeSeq != null) {
+            sql.append(" AND n0.seq < ?");
+            args.add(beforeSeq);
+        }
+        if (senderId != null) {
+            sql.append(" AND n0.sender_user_id = ?");
+            args.add(senderId);
+        }
+        for (String gram : grams) {
+            if (gram.equals(driving)) continue;
+            sql.append(" AND EXISTS (SELECT 1 FROM chat_message_ngram n WHERE n.thread_id = n0.thread_id AND n.gram = ? AND n.seq = n0.seq)");
+            args.add(gram);
+        }
+        sql.append(" ORDER BY n0.seq DESC LIMIT ?");
+        args.add(limit);
+
+        return jdbcTemplate.queryForList(sql.toString(), Long.class, args.toArray());
+    }
+
+    /** posting 수가 가장 적은 gram (gram 당 최대 RARITY_PROBE_LIMIT 개까지만 세서 흔한 gram 도 비용이 일정) */
+    private String rarest(Long threadId, Collection<String> grams, Long beforeSeq) {
+        if (grams.size() == 1) return grams.iterator().next();
+
+        String sql = beforeSeq == null ? COUNT_PROBE_SQL : COUNT_PROBE_BEFORE_SQL;
+        String rarest = null;
+        long min = Long.MAX_VALUE;
+        for (String gram : grams) {
+            Object[] args = beforeSeq == null
+                    ? new Object[]{threadId, gram, RARITY_PROBE_LIMIT}
+                    : new Object[]{threadId, gram, beforeSeq, RARITY_PROBE_LIMIT};
+            Long count = jdbcTemplate.queryForObject(sql, Long.class, args);
+            long c = count == null ? 0 : count;
+            if (c < min) {
+                min = c;
+                rarest = gram;
+            }
+            if (c == 0) break; // 한 gram 이라도 없으면 결과는 비어 있음 → 이 gram 으로 바로 끝남
+        }
+        return rarest;
+    }
+}
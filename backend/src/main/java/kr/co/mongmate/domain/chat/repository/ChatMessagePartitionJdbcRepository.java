@@ -0,0 +1,111 @@
+package kr.co.mongmate.domain.chat.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * chat_message 월 파티션 관리용 JDBC 레포지토리 (MySQL 전용 DDL)
+ * - 파티션 구성은 mysql/migration/018_partition_chat_message.sql 참고
+ * - 파티션 이름은 p{yyyyMM}, 상한(LESS THAN)은 다음 달 1일 00:00 UTC
+ */
+@Repository
+@RequiredArgsConstructor
+public class ChatMessagePartitionJdbcRepository {
+
+    public static final String MAX_PARTITION = "pmax";
+
+    private static final DateTimeFormatter NAME_FORMAT = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private static final String SELECT_PARTITIONS_SQL = """
+            SELECT PARTITION_NAME, PARTITION_DESCRIPTION
+            FROM information_schema.PARTITIONS
+            WHERE TABLE_SCHEMA = DATABASE()
+              AND TABLE_NAME = 'chat_message'
+              AND PARTITION_NAME IS NOT NULL
+            ORDER BY PARTITION_ORDINAL_POSITION
+            """;
+
+    /** INSERT IGNORE 는 중복 외 오류(잘림/NULL 등)까지 경고로 삼키므로 중복만 무시 */
+    private static final String ARCHIVE_SQL_FORMAT = """
+            INSERT INTO chat_message_archive (id, thread_id, sender_user_id, seq, content, sent_at)
+            SELECT id, thread_id, sender_user_id, seq, content, sent_at
+            FROM chat_message PARTITION (%s)
+            ON DUPLICATE KEY UPDATE id = chat_message_archive.id
+            """;
+
+    private static final String COUNT_PARTITION_SQL_FORMAT = """
+            SELECT COUNT(*) FROM chat_message PARTITION (%s)
+            """;
+
+    private static final String COUNT_ARCHIVED_SQL_FORMAT = """
+            SELECT COUNT(*)
+            FROM chat_message PARTITION (%s) m
+            JOIN chat_message_archive a ON a.id = m.id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /** 현재 파티션 목록 (파티셔닝 전이면 빈 목록) */
+    public List<MessagePartition> findPartitions() {
+        return jdbcTemplate.query(SELECT_PARTITIONS_SQL, (rs, i) -> new MessagePartition(
+                rs.getString(1),
+                parseUpperBound(rs.getString(2))
+        ));
+    }
+
+    /** pmax 를 쪼개서 [from, upperBound) 월 파티션 추가 */
+    public void addMonthPartition(LocalDate monthStart) {
+        String sql = "ALTER TABLE chat_message REORGANIZE PARTITION " + MAX_PARTITION + " INTO ("
+                + "PARTITION " + partitionName(monthStart)
+                + " VALUES LESS THAN ('" + monthStart.plusMonths(1) + "'), "
+                + "PARTITION " + MAX_PARTITION + " VALUES LESS THAN (MAXVALUE))";
+        jdbcTemplate.execute(sql);
+    }
+
+    /** 파티션 전체를 archive 테이블로 복사 (재실행해도 이미 있는 id 는 건너뜀) */
+    public int copyToArchive(String partitionName) {
+        return jdbcTemplate.update(ARCHIVE_SQL_FORMAT.formatted(checkName(partitionName)));
+    }
+
+    public long countPartition(String partitionName) {
+        Long count = jdbcTemplate.queryForObject(COUNT_PARTITION_SQL_FORMAT.formatted(checkName(partitionName)), Long.class);
+        return count == null ? 0L : count;
+    }
+
+    /** 파티션 행 중 archive 에 같은 id 로 들어가 있는 행 수 */
+    public long countArchived(String partitionName) {
+        Long count = jdbcTemplate.queryForObject(COUNT_ARCHIVED_SQL_FORMAT.formatted(checkName(partitionName)), Long.class);
+        return count == null ? 0L : count;
+    }
+
+    public void dropPartition(String partitionName) {
+        jdbcTemplate.execute("ALTER TABLE chat_message DROP PARTITION " + checkName(partitionName));
+    }
+
+    public static String partitionName(LocalDate monthStart) {
+        return "p" + monthStart.format(NAME_FORMAT);
+    }
+
+    /** DDL 에 문자열로 들어가므로 information_schema 에서 읽은 이름도 한 번 더 확인 */
+    private static String checkName(String partitionName) {
+        if (!partitionName.matches("p[0-9A-Za-z_]+")) {
+            throw new IllegalArgumentException("invalid partition name: " + partitionName);
+        }
+        return partitionName;
+    }
+
+    /** '2026-11-01 00:00:00' → 2026-11-01, MAXVALUE → null */
+    private static LocalDate parseUpperBound(String description) {
+        if (description == null || description.equalsIgnoreCase("MAXVALUE")) return null;
+        String value = description.replace("'", "").trim();
+        return LocalDate.parse(value.substring(0, 10));
+    }
+
+    /** upperBound == null 이면 MAXVALUE 파티션 */
+    public record MessagePartition(String name, LocalDate upperBound) {}
+}
@@ -2,12 +2,66 @@ package kr.co.mongmate.domain.chat.repository;
 
 import kr.co.mongmate.domain.chat.entity.ChatMessage;
 import kr.co.mongmate.domain.chat.entity.ChatThread;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long> {
 
-    // 채팅방의 마지막 메시지 (목록 API에서 사용)
+    // 채팅방의 마지막 메시지 (단건용, 목록은 ChatReadStateRepository.findRoomSummaries 사용)
     Optional<ChatMessage> findTopByChatThreadOrderBySentAtDesc(ChatThread chatThread);
+
+    // afterSeq < seq < beforeSeq 구간을 seq 오름차순으로 (idx_cm_thread_seq 사용, Redis 에서 trim 된 구간 보충용)
+    @Query("""
+            select m from ChatMessage m
+            where m.chatThread.id = :threadId
+              and m.seq > :afterSeq
+              and m.seq < :beforeSeq
+            order by m.seq asc
+            """)
+    List<ChatMessage> findSeqRange(@Param("threadId") Long threadId,
+                                   @Param("afterSeq") long afterSeq,
+                                   @Param("beforeSeq") long beforeSeq,
+                                   Pageable pageable);
+
+    // findSeqRange + sent_at 하한 (월 파티션 pruning 으로 최근 파티션만 스캔)
+    @Query("""
+            select m from ChatMessage m
+            where m.chatThread.id = :threadId
+              and m.seq > :afterSeq
+              and m.seq < :beforeSeq
+              and m.sentAt >= :since
+            order by m.seq asc
+            """)
+    List<ChatMessage> findSeqRangeSince(@Param("threadId") Long threadId,
+                                        @Param("afterSeq") long afterSeq,
+                                        @Param("beforeSeq") long beforeSeq,
+                                        @Param("since") LocalDateTime since,
+                                        Pageable pageable);
+
+    // beforeSeq 미만 중 최신순 (스크롤 업에서 Redis 에서 trim 된 구간 보충용, 호출 측에서 뒤집음)
+    @Query("""
+            select m from ChatMessage m
+            where m.chatThread.id = :threadId
+              and m.seq < :beforeSeq
+            order by m.seq desc
+            """)
+    List<ChatMessage> findLatestBefore(@Param("threadId") Long threadId,
+                                       @Param("beforeSeq") long beforeSeq,
+                                       Pageable pageable);
+
+    // 검색 후보 seq 들의 원문 (idx_cm_thread_seq)
+    @Query("""
+            select m from ChatMessage m
+            where m.chatThread.id = :threadId
+              and m.seq in :seqs
+            order by m.seq desc
+            """)
+    List<ChatMessage> findBySeqIn(@Param("threadId") Long threadId, @Param("seqs") Collection<Long> seqs);
 }
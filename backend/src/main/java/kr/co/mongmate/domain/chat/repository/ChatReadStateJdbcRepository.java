@@ -0,0 +1,68 @@
+package kr.co.mongmate.domain.chat.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Calendar;
+import java.util.List;
+import java.util.TimeZone;
+
+/**
+ * chat_read_state 읽음 커서 일괄 반영용 JDBC 레포지토리
+ * - row 가 곧 멤버십이라 INSERT 하지 않고 기존 row 만 UPDATE (탈퇴한 방의 커서는 0건 갱신으로 무시)
+ * - last_read_seq 는 GREATEST 로만 증가, 전진했을 때만 last_read_message_id / updated_at 갱신
+ * - MySQL 은 SET 절을 왼쪽부터 평가하며 앞에서 바꾼 값을 뒤에서 보므로 last_read_seq 는 맨 마지막에 둔다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ChatReadStateJdbcRepository {
+
+    private static final String UPDATE_SQL = """
+            UPDATE chat_read_state
+            SET last_read_message_id = CASE WHEN ? > COALESCE(last_read_seq, 0)
+                    THEN COALESCE((SELECT m.id FROM chat_message m WHERE m.thread_id = ? AND m.seq = ? LIMIT 1),
+                                  last_read_message_id)
+                    ELSE last_read_message_id END,
+                updated_at = CASE WHEN ? > COALESCE(last_read_seq, 0) THEN ? ELSE updated_at END,
+                last_read_seq = GREATEST(COALESCE(last_read_seq, 0), ?)
+            WHERE thread_id = ? AND user_id = ?
+            """;
+
+    private static final String SELECT_LAST_READ_SEQ_SQL = """
+            SELECT COALESCE(last_read_seq, 0) FROM chat_read_state WHERE thread_id = ? AND user_id = ?
+            """;
+
+    // hibernate.jdbc.time_zone=UTC 와 동일하게 바인딩
+    private static final TimeZone JDBC_TIME_ZONE = TimeZone.getTimeZone("UTC");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Transactional
+    public void batchUpdate(List<PendingReadCursor> cursors) {
+        if (cursors.isEmpty()) return;
+
+        Calendar calendar = Calendar.getInstance(JDBC_TIME_ZONE);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(UPDATE_SQL, cursors, cursors.size(), (ps, c) -> {
+            ps.setLong(1, c.lastReadSeq());
+            ps.setLong(2, c.threadId());
+            ps.setLong(3, c.lastReadSeq());
+            ps.setLong(4, c.lastReadSeq());
+            ps.setTimestamp(5, now, calendar);
+            ps.setLong(6, c.lastReadSeq());
+            ps.setLong(7, c.threadId());
+            ps.setLong(8, c.userId());
+        });
+    }
+
+    /** DB 에 반영된 last_read_seq (row 가 없으면 0) — Redis 커서 유실 시 복구용 */
+    @Transactional(readOnly = true)
+    public long findLastReadSeq(long threadId, long userId) {
+        List<Long> rows = jdbcTemplate.queryForList(SELECT_LAST_READ_SEQ_SQL, Long.class, threadId, userId);
+        return rows.isEmpty() || rows.get(0) == null ? 0L : rows.get(0);
+    }
+}
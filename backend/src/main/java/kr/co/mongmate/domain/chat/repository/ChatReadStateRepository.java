@@ -2,10 +2,38 @@ package kr.co.mongmate.domain.chat.repository;
 
 import kr.co.mongmate.domain.chat.entity.ChatReadState;
 import kr.co.mongmate.domain.chat.entity.ChatReadStateId;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
 
 public interface ChatReadStateRepository extends JpaRepository<ChatReadState, ChatReadStateId> {
 
     // ✅ 멤버십 존재 여부 = chat_read_state에 (threadId, userId) row가 있는가?
     boolean existsByIdThreadIdAndIdUserId(Long threadId, Long userId);
+
+    // 방 멤버 전체 (PK (thread_id, user_id) prefix range scan)
+    @Query("select s.id.userId from ChatReadState s where s.id.threadId = :threadId")
+    List<Long> findUserIdsByThreadId(@Param("threadId") Long threadId);
+
+    // 유저가 속한 방 전체 (idx_crs_user 의 user_id prefix 로 range scan)
+    @Query("""
+            select new kr.co.mongmate.domain.chat.repository.UserRoomReadState(s.id.threadId, s.lastReadSeq)
+            from ChatReadState s
+            where s.id.userId = :userId
+            """)
+    List<UserRoomReadState> findRoomsByUserId(@Param("userId") Long userId);
+
+    // 방 목록: 최근 메시지 순 (idx_crs_user 로 유저의 방을 찾고 chat_thread PK join 후 정렬 — 유저당 방 수만큼만 정렬)
+    @Query("""
+            select new kr.co.mongmate.domain.chat.repository.ChatRoomSummary(
+                t.id, t.lastMessageId, t.lastMessageSeq, t.lastMessagePreview, t.lastMessageSenderId, t.lastMessageAt)
+            from ChatReadState s
+            join s.chatThread t
+            where s.id.userId = :userId
+            order by t.lastMessageAt desc, t.id desc
+            """)
+    List<ChatRoomSummary> findRoomSummaries(@Param("userId") Long userId, Pageable pageable);
 }
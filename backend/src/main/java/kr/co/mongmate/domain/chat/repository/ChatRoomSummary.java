@@ -0,0 +1,13 @@
+package kr.co.mongmate.domain.chat.repository;
+
+import java.time.LocalDateTime;
+
+/** 방 목록 한 줄 (chat_thread 의 마지막 메시지 요약) */
+public record ChatRoomSummary(
+        Long threadId,
+        Long lastMessageId,
+        Long lastMessageSeq,
+        String lastMessagePreview,
+        Long lastMessageSenderId,
+        LocalDateTime lastMessageAt
+) {}
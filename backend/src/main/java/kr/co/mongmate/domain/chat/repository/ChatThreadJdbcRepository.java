@@ -0,0 +1,81 @@
+package kr.co.mongmate.domain.chat.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TimeZone;
+
+/**
+ * 방 목록용 마지막 메시지 요약 갱신
+ * - chat_thread.last_message_* : seq 가 더 큰 메시지일 때만 덮어씀 (flush 순서가 뒤바뀌어도 역행하지 않음)
+ * - 방 목록 정렬은 chat_thread.last_message_at 을 join 해서 한다.
+ *   (멤버별 row 에 사본을 두면 flush 마다 방 멤버 수만큼 UPDATE 가 나가서 큰 방에서 감당이 안 됨)
+ * - 저장된 메시지 중 방별 마지막 1건만 반영하므로 batch 크기와 무관하게 방 수만큼만 UPDATE
+ */
+@Repository
+@RequiredArgsConstructor
+public class ChatThreadJdbcRepository {
+
+    static final int PREVIEW_MAX_LENGTH = 100;
+
+    private static final String UPDATE_THREAD_SQL = """
+            UPDATE chat_thread
+            SET last_message_id = (SELECT m.id FROM chat_message m WHERE m.thread_id = ? AND m.seq = ? LIMIT 1),
+                last_message_preview = ?,
+                last_message_sender_id = ?,
+                last_message_at = ?,
+                last_message_seq = ?
+            WHERE id = ? AND (last_message_seq IS NULL OR last_message_seq < ?)
+            """;
+
+    // hibernate.jdbc.time_zone=UTC 와 동일하게 바인딩
+    private static final TimeZone JDBC_TIME_ZONE = TimeZone.getTimeZone("UTC");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Transactional
+    public void updateLastMessages(List<PendingChatMessage> messages) {
+        Collection<PendingChatMessage> latest = latestPerThread(messages);
+        if (latest.isEmpty()) return;
+
+        List<PendingChatMessage> rows = new ArrayList<>(latest);
+        Calendar calendar = Calendar.getInstance(JDBC_TIME_ZONE);
+
+        jdbcTemplate.batchUpdate(UPDATE_THREAD_SQL, rows, rows.size(), (ps, m) -> {
+            ps.setLong(1, m.threadId());
+            ps.setLong(2, m.seq());
+            ps.setString(3, preview(m.content()));
+            ps.setLong(4, m.senderId());
+            ps.setTimestamp(5, Timestamp.valueOf(m.sentAt()), calendar);
+            ps.setLong(6, m.seq());
+            ps.setLong(7, m.threadId());
+            ps.setLong(8, m.seq());
+        });
+    }
+
+    /** 방별 seq 최대 메시지만 (seq 없는 레거시 호출은 제외) */
+    private static Collection<PendingChatMessage> latestPerThread(List<PendingChatMessage> messages) {
+        Map<Long, PendingChatMessage> latest = new LinkedHashMap<>();
+        for (PendingChatMessage m : messages) {
+            if (m.seq() == null || m.sentAt() == null) continue;
+            latest.merge(m.threadId(), m, (a, b) -> b.seq() > a.seq() ? b : a);
+        }
+        return latest.values();
+    }
+
+    /** 미리보기 텍스트 (서로게이트 쌍이 잘리지 않게 code point 기준) */
+    static String preview(String content) {
+        if (content == null) return null;
+        if (content.codePointCount(0, content.length()) <= PREVIEW_MAX_LENGTH) return content;
+        return content.substring(0, content.offsetByCodePoints(0, PREVIEW_MAX_LENGTH));
+    }
+}
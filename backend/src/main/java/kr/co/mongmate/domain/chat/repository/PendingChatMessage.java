@@ -0,0 +1,15 @@
+package kr.co.mongmate.domain.chat.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * write-behind 큐에 쌓이는 저장 대기 메시지
+ * - 엔티티를 만들지 않고 FK id 만 들고 있다가 JDBC batch insert 로 한 번에 저장
+ */
+public record PendingChatMessage(
+        Long threadId,
+        Long senderId,
+        Long seq,
+        String content,
+        LocalDateTime sentAt
+) {}
@@ -0,0 +1,8 @@
+package kr.co.mongmate.domain.chat.repository;
+
+/** chat_read_state 반영 대기 중인 읽음 커서 */
+public record PendingReadCursor(
+        Long threadId,
+        Long userId,
+        long lastReadSeq
+) {}
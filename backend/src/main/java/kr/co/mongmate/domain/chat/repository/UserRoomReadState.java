@@ -0,0 +1,7 @@
+package kr.co.mongmate.domain.chat.repository;
+
+/** 유저가 속한 방 + DB 에 반영된 읽음 seq (flush 전이면 null) */
+public record UserRoomReadState(
+        Long threadId,
+        Long lastReadSeq
+) {}
@@ -0,0 +1,73 @@
+package kr.co.mongmate.domain.chat.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 채팅 검색용 bi-gram 토크나이저
+ *
+ * - NFKC 정규화 + 소문자화 후 글자/숫자 연속 구간에서 인접 2글자씩 (한글은 형태소 분석 없이도 bi-gram 으로 충분히 잡힘)
+ * - 공백/문장부호/이모지는 구간을 끊는다. ("안녕 하세요" → 안녕, 하세, 세요)
+ * - 색인과 검색이 반드시 같은 규칙을 써야 하므로 여기 한 곳에만 둔다.
+ */
+public final class ChatNgramTokenizer {
+
+    /** 메시지 하나에서 색인할 최대 gram 수 (긴 붙여넣기로 색인이 폭증하지 않도록) */
+    public static final int MAX_GRAMS_PER_MESSAGE = 500;
+
+    private ChatNgramTokenizer() {
+    }
+
+    public static String normalize(String text) {
+        return Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+    }
+
+    /** 중복 없는 bi-gram (등장 순서 유지) */
+    public static Set<String> bigrams(String text) {
+        Set<String> grams = new LinkedHashSet<>();
+        if (text == null || text.isEmpty()) return grams;
+
+        String normalized = normalize(text);
+        int prev = -1;
+        for (int i = 0; i < normalized.length() && grams.size() < MAX_GRAMS_PER_MESSAGE; ) {
+            int cp = normalized.codePointAt(i);
+            i += Character.charCount(cp);
+
+            if (!Character.isLetterOrDigit(cp)) {
+                prev = -1;
+                continue;
+            }
+            if (prev != -1) {
+                grams.add(new String(new int[]{prev, cp}, 0, 2));
+            }
+            prev = cp;
+        }
+        return grams;
+    }
+
+    /** 글자/숫자 연속 구간 (검색 결과 재확인용) */
+    public static List<String> terms(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null) return terms;
+
+        StringBuilder current = new StringBuilder();
+        String normalized = normalize(text);
+        for (int i = 0; i < normalized.length(); ) {
+            int cp = normalized.codePointAt(i);
+            i += Character.charCount(cp);
+
+            if (Character.isLetterOrDigit(cp)) {
+                current.appendCodePoint(cp);
+            } else if (!current.isEmpty()) {
+                terms.add(current.toString());
+                current.setLength(0);
+            }
+        }
+        if (!current.isEmpty()) terms.add(current.toString());
+        return terms;
+    }
+}
@@ -0,0 +1,136 @@
+package kr.co.mongmate.domain.chat.service;
+
+import kr.co.mongmate.domain.chat.repository.ChatMessagePartitionJdbcRepository;
+import kr.co.mongmate.global.config.SchedulingConfig;
+import kr.co.mongmate.domain.chat.repository.ChatMessagePartitionJdbcRepository.MessagePartition;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * chat_message 월 파티션 유지보수
+ *
+ * - months-ahead 만큼 미래 월 파티션을 미리 만들어서 pmax 에 데이터가 쌓이지 않게 한다.
+ * - hot-months 보다 오래된 파티션은 chat_message_archive 로 복사한 뒤 DROP PARTITION
+ *   (DELETE 와 달리 인덱스/undo 부담 없이 메타데이터 변경으로 끝남)
+ * - DROP 전에 파티션 행 수와 archive 에 들어간 행 수를 비교하고, 다르면 DROP 하지 않는다.
+ * - 검색 색인(chat_message_ngram)은 그대로 둔다. (archive 된 seq 는 ChatSearchService 가 archive 에서 조회)
+ * - 경계는 모두 UTC 기준 (sent_at 이 UTC 로 저장됨)
+ * - enabled=false 거나 파티셔닝 마이그레이션 전(파티션 없음)이면 아무것도 하지 않는다.
+ * - DDL/복사가 오래 걸릴 수 있어 공용 스케줄러 스레드가 아닌 전용 executor 에서 실행 (@Async)
+ * - 여러 노드에서 동시에 돌아도 DDL 은 한쪽만 성공하고 나머지는 실패 로그만 남긴다.
+ */
+@Slf4j
+@Component
+public class ChatMessagePartitionMaintainer {
+
+    private final ChatMessagePartitionJdbcRepository partitionRepository;
+    private final Clock clock;
+    private final boolean enabled;
+    private final int monthsAhead;
+    private final int hotMonths;
+
+    @Autowired
+    public ChatMessagePartitionMaintainer(
+            ChatMessagePartitionJdbcRepository partitionRepository,
+            @Value("${chat.persistence.partition.enabled:false}") boolean enabled,
+            @Value("${chat.persistence.partition.months-ahead:3}") int monthsAhead,
+            @Value("${chat.persistence.partition.hot-months:6}") int hotMonths
+    ) {
+        this(partitionRepository, Clock.systemUTC(), enabled, monthsAhead, hotMonths);
+    }
+
+    ChatMessagePartitionMaintainer(ChatMessagePartitionJdbcRepository partitionRepository, Clock clock,
+                                   boolean enabled, int monthsAhead, int hotMonths) {
+        this.partitionRepository = partitionRepository;
+        this.clock = clock;
+        this.enabled = enabled;
+        this.monthsAhead = monthsAhead;
+        this.hotMonths = hotMonths;
+    }
+
+    @Async(SchedulingConfig.CHAT_PARTITION_EXECUTOR)
+    @Scheduled(cron = "${chat.persistence.partition.cron:0 10 3 * * *}", zone = "UTC")
+    public void maintain() {
+        if (!enabled) return;
+
+        List<MessagePartition> partitions;
+        try {
+            partitions = partitionRepository.findPartitions();
+        } catch (Exception e) {
+            log.warn("[CHAT-PART] partition lookup failed : {}", e.getMessage());
+            return;
+        }
+        if (partitions.isEmpty()) {
+            log.info("[CHAT-PART] chat_message is not partitioned, skip");
+            return;
+        }
+
+        LocalDate thisMonth = LocalDate.now(clock).withDayOfMonth(1);
+
+        for (LocalDate month : monthsToAdd(partitions, thisMonth, monthsAhead)) {
+            try {
+                partitionRepository.addMonthPartition(month);
+                log.info("[CHAT-PART] added partition {}", ChatMessagePartitionJdbcRepository.partitionName(month));
+            } catch (Exception e) {
+                log.warn("[CHAT-PART] add partition {} failed : {}", month, e.getMessage());
+                return;
+            }
+        }
+
+        for (String name : partitionsToArchive(partitions, thisMonth.minusMonths(hotMonths))) {
+            try {
+                int copied = partitionRepository.copyToArchive(name);
+                long rows = partitionRepository.countPartition(name);
+                long archived = partitionRepository.countArchived(name);
+                if (archived != rows) {
+                    log.error("[CHAT-PART] archive of partition {} incomplete rows={} archived={}, keep partition",
+                            name, rows, archived);
+                    return;
+                }
+                partitionRepository.dropPartition(name);
+                log.info("[CHAT-PART] archived partition {} rows={} copied={}", name, rows, copied);
+            } catch (Exception e) {
+                // 복사/검증 실패 시 DROP 하지 않음 → 다음 주기에 다시 시도
+                log.warn("[CHAT-PART] archive partition {} failed : {}", name, e.getMessage());
+                return;
+            }
+        }
+    }
+
+    /** 마지막 월 파티션 다음 달부터 thisMonth + monthsAhead 까지 (오름차순) */
+    static List<LocalDate> monthsToAdd(List<MessagePartition> partitions, LocalDate thisMonth, int monthsAhead) {
+        LocalDate coveredUntil = null;
+        for (MessagePartition p : partitions) {
+            if (p.upperBound() != null && (coveredUntil == null || p.upperBound().isAfter(coveredUntil))) {
+                coveredUntil = p.upperBound();
+            }
+        }
+
+        LocalDate from = coveredUntil == null ? thisMonth : coveredUntil;
+        if (from.isBefore(thisMonth)) from = thisMonth;
+        LocalDate until = thisMonth.plusMonths(monthsAhead + 1L);
+
+        List<LocalDate> months = new ArrayList<>();
+        for (LocalDate m = from; m.isBefore(until); m = m.plusMonths(1)) {
+            months.add(m);
+        }
+        return months;
+    }
+
+    /** 상한이 cutoff 이하인 (= 전부 cutoff 이전 데이터인) 파티션 */
+    static List<String> partitionsToArchive(List<MessagePartition> partitions, LocalDate cutoff) {
+        return partitions.stream()
+                .filter(p -> p.upperBound() != null && !p.upperBound().isAfter(cutoff))
+                .map(MessagePartition::name)
+                .toList();
+    }
+}
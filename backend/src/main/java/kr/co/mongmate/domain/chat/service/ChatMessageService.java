@@ -2,39 +2,55 @@ package kr.co.mongmate.domain.chat.service;
 
 import kr.co.mongmate.domain.chat.entity.ChatMessage;
 import kr.co.mongmate.domain.chat.entity.ChatThread;
+import kr.co.mongmate.domain.chat.repository.ChatMessageNgramJdbcRepository;
 import kr.co.mongmate.domain.chat.repository.ChatMessageRepository;
+import kr.co.mongmate.domain.chat.repository.ChatThreadJdbcRepository;
 import kr.co.mongmate.domain.chat.repository.ChatThreadRepository;
+import kr.co.mongmate.domain.chat.repository.PendingChatMessage;
 import kr.co.mongmate.domain.user.entity.User;
 import kr.co.mongmate.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 public class ChatMessageService {
 
     private final ChatMessageRepository chatMessageRepository;
     private final ChatThreadRepository chatThreadRepository;
+    private final ChatThreadJdbcRepository chatThreadJdbcRepository;
+    private final ChatMessageNgramJdbcRepository chatMessageNgramJdbcRepository;
     private final UserRepository userRepository;
 
     @Transactional
     public Long saveMessage(String roomId, String userId, String content) {
-        Long threadId = Long.valueOf(roomId);
-        Long senderId = Long.valueOf(userId);
+        return saveMessage(new PendingChatMessage(Long.valueOf(roomId), Long.valueOf(userId), null, content, null));
+    }
 
+    /** write-behind 큐를 거치지 않는 단건 저장 (sync 모드 / 큐 포화 시 fallback) */
+    @Transactional
+    public Long saveMessage(PendingChatMessage pending) {
         // ✅ SELECT 최소화: FK 참조만 잡기 (필요 시에만 조회됨)
-        ChatThread thread = chatThreadRepository.getReferenceById(threadId);
-        User sender = userRepository.getReferenceById(senderId);
+        ChatThread thread = chatThreadRepository.getReferenceById(pending.threadId());
+        User sender = userRepository.getReferenceById(pending.senderId());
 
         ChatMessage saved = chatMessageRepository.save(
                 ChatMessage.builder()
                         .chatThread(thread)
                         .sender(sender)
-                        .content(content)
+                        .seq(pending.seq())
+                        .content(pending.content())
+                        .sentAt(pending.sentAt())
                         .build()
         );
 
+        // IDENTITY 라 save 시점에 insert 완료 → 같은 트랜잭션에서 요약 갱신
+        chatThreadJdbcRepository.updateLastMessages(List.of(pending));
+        chatMessageNgramJdbcRepository.index(List.of(pending));
+
         return saved.getId();
     }
 }
@@ -0,0 +1,337 @@
+package kr.co.mongmate.domain.chat.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import kr.co.mongmate.domain.chat.repository.ChatMessageJdbcRepository;
+import kr.co.mongmate.domain.chat.repository.ChatMessageNgramJdbcRepository;
+import kr.co.mongmate.domain.chat.repository.ChatThreadJdbcRepository;
+import kr.co.mongmate.domain.chat.repository.PendingChatMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 채팅 메시지 write-behind 버퍼
+ *
+ * - STOMP SEND 처리 스레드는 큐에 넣기만 하고 바로 브로드캐스트로 넘어간다.
+ * - 전용 flusher 스레드가 flush-interval 또는 batch-size 단위로 모아서 JDBC batch insert.
+ * - 큐가 가득 차면 offer-timeout 만큼 기다린 뒤, 그래도 자리가 없으면 호출 스레드에서 직접 저장 (backpressure).
+ * - 종료 시 남은 메시지를 모두 저장한 뒤 내려간다.
+ * - 저장 후 방별 마지막 메시지 요약(chat_thread.last_message_*)과 검색 색인(chat_message_ngram)도 함께 갱신
+ * - insert 실패 시 제약 위반(삭제된 방 FK 등)만 한 건씩 골라서 버리고,
+ *   DB 장애/데드락 같은 일시 오류는 backoff 하며 저장될 때까지 재시도 (이미 seq 발급 + 브로드캐스트된 메시지라 버리지 않음)
+ *   → 재시도 중에는 큐가 차면서 호출 스레드 직접 저장으로 backpressure 가 걸린다.
+ * - enabled=false 면 기존처럼 매 메시지 동기 저장.
+ *
+ * metrics: chat.persistence.flush{step=insert|summary|index}, chat.persistence.flush.failures{step},
+ *          chat.persistence.write-behind.pending, chat.persistence.write-behind.inline,
+ *          chat.persistence.write-behind.dropped
+ */
+@Slf4j
+@Service
+public class ChatMessageWriteBehindBuffer {
+
+    /** 큐가 비어 있을 때 종료 여부를 확인하는 주기 */
+    private static final long IDLE_POLL_MS = 500;
+
+    /** 일시 오류 재시도 간격 (2배씩 늘려서 최대 MAX 까지) */
+    private static final long INITIAL_RETRY_BACKOFF_MS = 100;
+    private static final long MAX_RETRY_BACKOFF_MS = 5_000;
+    /** 종료 중에는 무한히 기다릴 수 없으므로 이 횟수까지만 재시도 */
+    private static final int SHUTDOWN_RETRY_ATTEMPTS = 3;
+
+    private final ChatMessageJdbcRepository chatMessageJdbcRepository;
+    private final ChatThreadJdbcRepository chatThreadJdbcRepository;
+    private final ChatMessageNgramJdbcRepository chatMessageNgramJdbcRepository;
+    private final ChatMessageService chatMessageService;
+
+    private final boolean enabled;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final long offerTimeoutMs;
+    private final BlockingQueue<PendingChatMessage> queue;
+
+    private final Timer insertTimer;
+    private final Timer summaryTimer;
+    private final Timer indexTimer;
+    private final Counter insertFailures;
+    private final Counter summaryFailures;
+    private final Counter indexFailures;
+    private final Counter inlineCounter;
+    private final Counter droppedCounter;
+
+    private volatile boolean running;
+    private Thread flusher;
+
+    public ChatMessageWriteBehindBuffer(
+            ChatMessageJdbcRepository chatMessageJdbcRepository,
+            ChatThreadJdbcRepository chatThreadJdbcRepository,
+            ChatMessageNgramJdbcRepository chatMessageNgramJdbcRepository,
+            ChatMessageService chatMessageService,
+            MeterRegistry meterRegistry,
+            @Value("${chat.persistence.write-behind.enabled:true}") boolean enabled,
+            @Value("${chat.persistence.write-behind.capacity:10000}") int capacity,
+            @Value("${chat.persistence.write-behind.batch-size:500}") int batchSize,
+            @Value("${chat.persistence.write-behind.flush-interval-ms:50}") long flushIntervalMs,
+            @Value("${chat.persistence.write-behind.offer-timeout-ms:100}") long offerTimeoutMs
+    ) {
+        this.chatMessageJdbcRepository = chatMessageJdbcRepository;
+        this.chatThreadJdbcRepository = chatThreadJdbcRepository;
+        this.chatMessageNgramJdbcRepository = chatMessageNgramJdbcRepository;
+        this.chatMessageService = chatMessageService;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+        this.offerTimeoutMs = offerTimeoutMs;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+
+        this.insertTimer = flushTimer(meterRegistry, "insert");
+        this.summaryTimer = flushTimer(meterRegistry, "summary");
+        this.indexTimer = flushTimer(meterRegistry, "index");
+        this.insertFailures = flushFailures(meterRegistry, "insert");
+        this.summaryFailures = flushFailures(meterRegistry, "summary");
+        this.indexFailures = flushFailures(meterRegistry, "index");
+        this.inlineCounter = Counter.builder("chat.persistence.write-behind.inline")
+                .description("큐 포화로 호출 스레드에서 직접 저장한 메시지 수")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("chat.persistence.write-behind.dropped")
+                .description("영구 오류(제약 위반 등)로 저장하지 못하고 버린 메시지 수")
+                .register(meterRegistry);
+        Gauge.builder("chat.persistence.write-behind.pending", queue, BlockingQueue::size)
+                .description("저장 대기 중인 메시지 수")
+                .register(meterRegistry);
+    }
+
+    private static Timer flushTimer(MeterRegistry meterRegistry, String step) {
+        return Timer.builder("chat.persistence.flush")
+                .description("write-behind batch 단계별 소요 시간")
+                .tag("step", step)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private static Counter flushFailures(MeterRegistry meterRegistry, String step) {
+        return Counter.builder("chat.persistence.flush.failures")
+                .description("write-behind batch 단계별 실패 수")
+                .tag("step", step)
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        if (!enabled) return;
+
+        running = true;
+        flusher = new Thread(this::runFlushLoop, "chat-write-behind");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    /** 메시지 저장 요청 (write-behind 모드면 큐에 적재만 하고 반환) */
+    public void submit(String roomId, String userId, long seq, String content, long sentAtMillis) {
+        PendingChatMessage pending = new PendingChatMessage(
+                Long.valueOf(roomId),
+                Long.valueOf(userId),
+                seq,
+                content,
+                LocalDateTime.ofInstant(Instant.ofEpochMilli(sentAtMillis), ZoneId.systemDefault())
+        );
+
+        if (!running) {
+            chatMessageService.saveMessage(pending);
+            return;
+        }
+
+        try {
+            if (queue.offer(pending, offerTimeoutMs, TimeUnit.MILLISECONDS)) {
+                // running 확인과 offer 사이에 shutdown 의 마지막 drain 이 끝났을 수 있다.
+                // 아직 큐에 남아 있으면 직접 꺼내서 저장 (drain 이 먼저 가져갔으면 remove 가 false 라 중복 저장 없음)
+                if (!running && queue.remove(pending)) {
+                    chatMessageService.saveMessage(pending);
+                }
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        // ✅ 큐 포화 → 호출 스레드에서 직접 저장해서 유입 속도를 DB 속도에 맞춘다.
+        log.warn("[CHAT-WB] queue full (size={}), saving inline thread={}", queue.size(), pending.threadId());
+        inlineCounter.increment();
+        chatMessageService.saveMessage(pending);
+    }
+
+    /** 현재 큐에 쌓인 저장 대기 메시지 수 */
+    public int pendingCount() {
+        return queue.size();
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        if (!running) return;
+
+        // interrupt 는 JDBC 호출 중인 batch 를 깨뜨릴 수 있어서 쓰지 않는다. (flusher 가 running 을 보고 스스로 종료)
+        running = false;
+        flusher.join(TimeUnit.SECONDS.toMillis(10));
+
+        // flusher 가 못 가져간 나머지 + 종료 직전에 들어온 것까지 모두 저장
+        List<PendingChatMessage> rest = new ArrayList<>(batchSize);
+        while (queue.drainTo(rest, batchSize) > 0) {
+            flush(rest);
+            rest.clear();
+        }
+        log.info("[CHAT-WB] drained on shutdown");
+    }
+
+    private void runFlushLoop() {
+        List<PendingChatMessage> batch = new ArrayList<>(batchSize);
+
+        while (running) {
+            try {
+                collect(batch);
+            } catch (InterruptedException e) {
+                // 이미 꺼낸 건 저장하고 종료 (interrupt 플래그는 예외와 함께 해제된 상태라 JDBC 호출에 영향 없음)
+                flush(batch);
+                Thread.currentThread().interrupt();
+                return;
+            }
+
+            if (!batch.isEmpty()) {
+                flush(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    /** 첫 메시지가 들어온 시점부터 flush-interval 동안, 최대 batch-size 까지 모은다. */
+    private void collect(List<PendingChatMessage> batch) throws InterruptedException {
+        PendingChatMessage first = queue.poll(IDLE_POLL_MS, TimeUnit.MILLISECONDS);
+        if (first == null) return;
+
+        batch.add(first);
+        long deadline = System.nanoTime() + flushIntervalNanos;
+
+        while (batch.size() < batchSize) {
+            queue.drainTo(batch, batchSize - batch.size());
+            if (batch.size() >= batchSize) return;
+
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) return;
+
+            PendingChatMessage next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) return;
+            batch.add(next);
+        }
+    }
+
+    private void flush(List<PendingChatMessage> batch) {
+        List<PendingChatMessage> stored = insertTimer.record(() -> insert(batch));
+        if (stored.isEmpty()) return;
+
+        // 방 목록 요약은 insert 와 분리 (실패해도 메시지 insert 를 재시도하면 중복 저장되므로)
+        long start = System.nanoTime();
+        try {
+            chatThreadJdbcRepository.updateLastMessages(stored);
+        } catch (Exception e) {
+            summaryFailures.increment();
+            log.warn("[CHAT-WB] thread summary update failed size={} : {}", stored.size(), e.getMessage());
+        }
+        summaryTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+        // 검색 색인도 insert 와 분리 (INSERT IGNORE 라 재시도해도 안전하지만 실패가 메시지 저장을 막지 않도록)
+        start = System.nanoTime();
+        try {
+            chatMessageNgramJdbcRepository.index(stored);
+        } catch (Exception e) {
+            indexFailures.increment();
+            log.warn("[CHAT-WB] search index failed size={} : {}", stored.size(), e.getMessage());
+        }
+        indexTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    /** 저장된 메시지 목록 (영구 오류로 버린 건 제외) */
+    private List<PendingChatMessage> insert(List<PendingChatMessage> batch) {
+        List<PendingChatMessage> stored = new ArrayList<>(batch.size());
+        List<PendingChatMessage> pending = batch;
+        long backoffMs = INITIAL_RETRY_BACKOFF_MS;
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                chatMessageJdbcRepository.batchInsert(pending);
+                stored.addAll(pending);
+                return stored;
+            } catch (Exception e) {
+                insertFailures.increment();
+                if (isPermanent(e)) {
+                    // batch 안에 제약 위반 row 가 섞임 → 한 건씩 저장해서 정상 메시지는 살리고 위반 row 만 버린다.
+                    log.warn("[CHAT-WB] batch insert rejected size={}, retrying one by one : {}", pending.size(), e.getMessage());
+                    pending = insertOneByOne(pending, stored);
+                    if (pending.isEmpty()) return stored;
+                } else {
+                    log.warn("[CHAT-WB] batch insert failed size={} attempt={}, retry in {}ms : {}",
+                            pending.size(), attempt, backoffMs, e.getMessage());
+                }
+            }
+
+            if (!running && attempt >= SHUTDOWN_RETRY_ATTEMPTS) {
+                drop(pending, "shutdown");
+                return stored;
+            }
+            try {
+                Thread.sleep(backoffMs);
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+                drop(pending, "interrupted");
+                return stored;
+            }
+            backoffMs = Math.min(backoffMs * 2, MAX_RETRY_BACKOFF_MS);
+        }
+    }
+
+    /** 한 건씩 저장, 영구 오류 row 는 버리고 일시 오류 row 만 반환 (다시 재시도할 대상) */
+    private List<PendingChatMessage> insertOneByOne(List<PendingChatMessage> batch, List<PendingChatMessage> stored) {
+        List<PendingChatMessage> retry = new ArrayList<>();
+        for (PendingChatMessage m : batch) {
+            try {
+                chatMessageJdbcRepository.batchInsert(List.of(m));
+                stored.add(m);
+            } catch (Exception each) {
+                if (isPermanent(each)) {
+                    droppedCounter.increment();
+                    log.error("[CHAT-WB] drop message thread={} sender={} seq={} : {}",
+                            m.threadId(), m.senderId(), m.seq(), each.getMessage());
+                } else {
+                    retry.add(m);
+                }
+            }
+        }
+        return retry;
+    }
+
+    private void drop(List<PendingChatMessage> messages, String reason) {
+        droppedCounter.increment(messages.size());
+        for (PendingChatMessage m : messages) {
+            log.error("[CHAT-WB] drop message on {} thread={} sender={} seq={}", reason, m.threadId(), m.senderId(), m.seq());
+        }
+    }
+
+    /** 같은 row 를 다시 넣어도 실패하는 오류 (FK / NOT NULL / 길이 등 제약 위반) */
+    private static boolean isPermanent(Exception e) {
+        return e instanceof DataIntegrityViolationException;
+    }
+}
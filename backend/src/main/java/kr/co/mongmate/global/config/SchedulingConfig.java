@@ -0,0 +1,35 @@
+package kr.co.mongmate.global.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * @Scheduled 작업은 spring.task.scheduling.pool.size 크기의 공용 스케줄러에서 돈다.
+ * 오래 걸리는 배치(파티션 DDL/archive 복사 등)는 @Async 로 전용 executor 에 넘겨서
+ * 짧은 주기 작업(읽음 flush, unread 알림, presence 갱신)을 막지 않게 한다.
+ */
+@Configuration
+@EnableScheduling
+@EnableAsync
+public class SchedulingConfig {
+
+    public static final String CHAT_PARTITION_EXECUTOR = "chatPartitionExecutor";
+
+    /** 파티션 유지보수 전용 (한 번에 하나, 이전 실행이 아직 돌고 있으면 이번 실행은 버림) */
+    @Bean(name = CHAT_PARTITION_EXECUTOR)
+    public ThreadPoolTaskExecutor chatPartitionExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("chat-partition-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        return executor;
+    }
+}
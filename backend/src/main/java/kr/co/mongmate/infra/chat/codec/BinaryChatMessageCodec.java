@@ -0,0 +1,105 @@
+package kr.co.mongmate.infra.chat.codec;
+
+import kr.co.mongmate.api.chat.dto.ChatMessageDto;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 바이너리 포맷 v1
+ * [0x02][varint timestamp][varint len][userId UTF-8][varint len][content UTF-8]
+ * - 필드명 반복 없음, 숫자는 unsigned LEB128 varint
+ */
+public class BinaryChatMessageCodec implements ChatMessageCodec {
+
+    public static final byte FORMAT_ID = 0x02;
+
+    @Override
+    public byte formatId() {
+        return FORMAT_ID;
+    }
+
+    @Override
+    public byte[] encode(ChatMessageDto message) {
+        byte[] userId = message.userId().getBytes(StandardCharsets.UTF_8);
+        byte[] content = message.content().getBytes(StandardCharsets.UTF_8);
+
+        int size = 1
+                + varintSize(message.timestamp())
+                + varintSize(userId.length) + userId.length
+                + varintSize(content.length) + content.length;
+
+        byte[] out = new byte[size];
+        out[0] = FORMAT_ID;
+        int pos = writeVarint(out, 1, message.timestamp());
+        pos = writeBytes(out, pos, userId);
+        writeBytes(out, pos, content);
+        return out;
+    }
+
+    @Override
+    public ChatMessageDto decode(String roomId, long seq, byte[] data) {
+        Reader r = new Reader(data, 1);
+        try {
+            long timestamp = r.varint();
+            String userId = r.string();
+            String content = r.string();
+            return new ChatMessageDto(roomId, seq, userId, content, timestamp);
+        } catch (ArrayIndexOutOfBoundsException e) {
+            throw new IllegalStateException("ChatMessageDto binary 역직렬화 Fail : room=" + roomId + " seq=" + seq, e);
+        }
+    }
+
+    static int varintSize(long value) {
+        int size = 1;
+        while ((value & ~0x7FL) != 0) {
+            value >>>= 7;
+            size++;
+        }
+        return size;
+    }
+
+    static int writeVarint(byte[] out, int pos, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out[pos++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out[pos++] = (byte) value;
+        return pos;
+    }
+
+    private static int writeBytes(byte[] out, int pos, byte[] bytes) {
+        pos = writeVarint(out, pos, bytes.length);
+        System.arraycopy(bytes, 0, out, pos, bytes.length);
+        return pos + bytes.length;
+    }
+
+    private static final class Reader {
+        private final byte[] data;
+        private int pos;
+
+        private Reader(byte[] data, int pos) {
+            this.data = data;
+            this.pos = pos;
+        }
+
+        long varint() {
+            long result = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = data[pos++];
+                result |= (long) (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+            return result;
+        }
+
+        String string() {
+            int len = (int) varint();
+            if (len > data.length - pos) throw new ArrayIndexOutOfBoundsException(pos + len);
+            String s = new String(data, pos, len, StandardCharsets.UTF_8);
+            pos += len;
+            return s;
+        }
+    }
+}
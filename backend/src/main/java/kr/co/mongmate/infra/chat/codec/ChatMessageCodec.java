@@ -0,0 +1,20 @@
+package kr.co.mongmate.infra.chat.codec;
+
+import kr.co.mongmate.api.chat.dto.ChatMessageDto;
+
+/**
+ * Redis 에 보관하는 채팅 메시지 인코딩
+ * - 첫 바이트는 포맷/버전 헤더 (formatId) → 여러 포맷이 한 stream 안에 섞여 있어도 읽을 수 있다.
+ * - roomId 는 키에, seq 는 stream entry id 에 이미 있으므로 본문에 넣지 않는다.
+ */
+public interface ChatMessageCodec {
+
+    /** 헤더 바이트 */
+    byte formatId();
+
+    /** 헤더 포함 인코딩 */
+    byte[] encode(ChatMessageDto message);
+
+    /** 헤더 포함 데이터 디코딩 (roomId, seq 는 키/entry id 에서 복원) */
+    ChatMessageDto decode(String roomId, long seq, byte[] data);
+}
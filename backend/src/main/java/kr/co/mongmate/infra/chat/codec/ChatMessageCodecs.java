@@ -0,0 +1,51 @@
+package kr.co.mongmate.infra.chat.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.co.mongmate.api.chat.dto.ChatMessageDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 코덱 선택/분기
+ * - 쓰기: chat.redis.codec 설정(binary | json)의 코덱 하나로만 인코딩
+ * - 읽기: 첫 바이트 헤더를 보고 포맷별로 디코딩 → 롤아웃 중 포맷이 섞여 있어도 안전
+ */
+@Component
+public class ChatMessageCodecs {
+
+    /** 헤더 도입 이전(ChatMessageDto 전체 JSON) 데이터의 첫 바이트 */
+    private static final byte LEGACY_JSON_START = '{';
+
+    private final JsonChatMessageCodec json;
+    private final BinaryChatMessageCodec binary;
+    private final ChatMessageCodec writer;
+
+    public ChatMessageCodecs(ObjectMapper objectMapper,
+                             @Value("${chat.redis.codec:binary}") String writeFormat) {
+        this.json = new JsonChatMessageCodec(objectMapper);
+        this.binary = new BinaryChatMessageCodec();
+        this.writer = switch (writeFormat) {
+            case "binary" -> binary;
+            case "json" -> json;
+            default -> throw new IllegalArgumentException("unknown chat.redis.codec: " + writeFormat);
+        };
+    }
+
+    public byte[] encode(ChatMessageDto message) {
+        return writer.encode(message);
+    }
+
+    public ChatMessageDto decode(String roomId, long seq, byte[] data) {
+        if (data == null || data.length == 0) {
+            throw new IllegalStateException("empty chat message payload : room=" + roomId + " seq=" + seq);
+        }
+
+        return switch (data[0]) {
+            case BinaryChatMessageCodec.FORMAT_ID -> binary.decode(roomId, seq, data);
+            case JsonChatMessageCodec.FORMAT_ID -> json.decode(roomId, seq, data);
+            case LEGACY_JSON_START -> json.decodeLegacy(roomId, seq, data);
+            default -> throw new IllegalStateException(
+                    "unknown chat message format " + data[0] + " : room=" + roomId + " seq=" + seq);
+        };
+    }
+}
@@ -0,0 +1,59 @@
+package kr.co.mongmate.infra.chat.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.co.mongmate.api.chat.dto.ChatMessageDto;
+import lombok.RequiredArgsConstructor;
+
+import java.io.IOException;
+
+/**
+ * JSON 포맷 v1: [0x01][{"userId":..,"content":..,"timestamp":..}]
+ */
+@RequiredArgsConstructor
+public class JsonChatMessageCodec implements ChatMessageCodec {
+
+    public static final byte FORMAT_ID = 0x01;
+
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public byte formatId() {
+        return FORMAT_ID;
+    }
+
+    @Override
+    public byte[] encode(ChatMessageDto message) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(
+                    new StoredMessage(message.userId(), message.content(), message.timestamp()));
+            byte[] out = new byte[json.length + 1];
+            out[0] = FORMAT_ID;
+            System.arraycopy(json, 0, out, 1, json.length);
+            return out;
+        } catch (IOException e) {
+            throw new IllegalStateException("ChatMessageDto JSON 직렬화 Fail", e);
+        }
+    }
+
+    @Override
+    public ChatMessageDto decode(String roomId, long seq, byte[] data) {
+        try {
+            StoredMessage m = objectMapper.readValue(data, 1, data.length - 1, StoredMessage.class);
+            return new ChatMessageDto(roomId, seq, m.userId(), m.content(), m.timestamp());
+        } catch (IOException e) {
+            throw new IllegalStateException("ChatMessageDto JSON 역직렬화 Fail : room=" + roomId + " seq=" + seq, e);
+        }
+    }
+
+    /** 헤더 없이 ChatMessageDto 전체가 JSON 으로 저장되던 이전 포맷 */
+    ChatMessageDto decodeLegacy(String roomId, long seq, byte[] data) {
+        try {
+            ChatMessageDto m = objectMapper.readValue(data, ChatMessageDto.class);
+            return new ChatMessageDto(roomId, seq, m.userId(), m.content(), m.timestamp());
+        } catch (IOException e) {
+            throw new IllegalStateException("ChatMessageDto legacy JSON 역직렬화 Fail : room=" + roomId + " seq=" + seq, e);
+        }
+    }
+
+    private record StoredMessage(String userId, String content, long timestamp) {}
+}
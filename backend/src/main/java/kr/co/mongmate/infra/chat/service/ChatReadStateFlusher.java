@@ -0,0 +1,85 @@
+package kr.co.mongmate.infra.chat.service;
+
+import jakarta.annotation.PreDestroy;
+import kr.co.mongmate.domain.chat.repository.ChatReadStateJdbcRepository;
+import kr.co.mongmate.domain.chat.repository.PendingReadCursor;
+import kr.co.mongmate.infra.chat.store.ChatStore;
+import kr.co.mongmate.infra.chat.store.ChatStore.ReadCursor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ChatStore(Redis / in-memory) 읽음 커서 → chat_read_state 주기 반영
+ *
+ * - markRead 는 Redis 만 갱신하고 dirty set 에 (room, user) 를 등록
+ * - flush-interval 마다 dirty 커서를 batch-size 단위로 꺼내서 JDBC batch UPDATE
+ * - 여러 노드가 동시에 돌아도 SPOP 이라 같은 커서를 중복 처리하지 않는다.
+ * - DB 반영 실패 시 dirty 로 되돌려서 다음 주기에 재시도
+ */
+@Slf4j
+@Component
+public class ChatReadStateFlusher {
+
+    /** 한 주기에 처리할 최대 batch 수 (dirty 가 폭증해도 한 주기가 너무 길어지지 않도록) */
+    private static final int MAX_BATCHES_PER_RUN = 20;
+
+    private final ChatStore chatStore;
+    private final ChatReadStateJdbcRepository chatReadStateJdbcRepository;
+    private final int batchSize;
+
+    public ChatReadStateFlusher(
+            ChatStore chatStore,
+            ChatReadStateJdbcRepository chatReadStateJdbcRepository,
+            @Value("${chat.read-state.batch-size:500}") int batchSize
+    ) {
+        this.chatStore = chatStore;
+        this.chatReadStateJdbcRepository = chatReadStateJdbcRepository;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${chat.read-state.flush-interval-ms:3000}")
+    public void flush() {
+        for (int i = 0; i < MAX_BATCHES_PER_RUN; i++) {
+            List<ReadCursor> cursors;
+            try {
+                cursors = chatStore.popDirtyReadCursors(batchSize);
+            } catch (Exception e) {
+                log.warn("[CHAT-READ] dirty pop failed : {}", e.getMessage());
+                return;
+            }
+            if (cursors.isEmpty()) return;
+
+            write(cursors);
+            if (cursors.size() < batchSize) return;
+        }
+    }
+
+    /** 종료 직전 남은 커서까지 반영 */
+    @PreDestroy
+    void shutdown() {
+        flush();
+    }
+
+    private void write(List<ReadCursor> cursors) {
+        List<PendingReadCursor> pending = new ArrayList<>(cursors.size());
+        for (ReadCursor c : cursors) {
+            try {
+                pending.add(new PendingReadCursor(Long.valueOf(c.roomId()), Long.valueOf(c.userId()), c.lastReadSeq()));
+            } catch (NumberFormatException e) {
+                log.warn("[CHAT-READ] drop invalid cursor room={} user={}", c.roomId(), c.userId());
+            }
+        }
+
+        try {
+            chatReadStateJdbcRepository.batchUpdate(pending);
+        } catch (Exception e) {
+            log.warn("[CHAT-READ] batch update failed size={}, requeue : {}", pending.size(), e.getMessage());
+            chatStore.requeueDirtyReadCursors(cursors);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package kr.co.mongmate.infra.chat.service;
+
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.List;
+
+/**
+ * 채팅 Redis Lua 스크립트 모음
+ * - 여러 명령을 한 번의 EVALSHA 로 원자적으로 실행하기 위해 사용
+ */
+final class ChatRedisScripts {
+
+    private ChatRedisScripts() {
+    }
+
+    /**
+     * 메시지 추가 (seq 발급 + XADD(MAXLEN ~), clientMsgId 가 있으면 중복 전송 제거)
+     * KEYS[1] = seq 키, KEYS[2] = 메시지 stream 키, KEYS[3] = (선택) dedup 키
+     * ARGV[1] = 인코딩된 메시지 본문 (seq 미포함), ARGV[2] = 최대 보관 개수 (근사 trim), ARGV[3] = dedup TTL(초)
+     * dedup 값 = "{seq}" (처리 중/완료), "{seq}:p" / "{seq}:b" (영속화 / 브로드캐스트 단계에서 실패)
+     * return  = {seq, state[, 원본 본문]} (stream entry id = "{seq}-0")
+     *           state 0 = 새 메시지, 1 = 처리된 재전송, 2 / 3 = 실패한 전송의 재시도 (영속화 / 브로드캐스트부터 다시)
+     *           재시도를 넘겨준 뒤에는 실패 표시를 지워서 동시에 온 다른 재전송이 한 번 더 실행하지 않게 한다.
+     */
+    @SuppressWarnings("rawtypes")
+    static final RedisScript<List> APPEND_MESSAGE = new DefaultRedisScript<>("""
+            if #KEYS == 3 then
+              local existing = redis.call('GET', KEYS[3])
+              if existing then
+                local seq = tonumber(string.match(existing, '^%d+'))
+                local state = 1
+                local failed = string.match(existing, ':(%a)$')
+                if failed == 'p' then state = 2 elseif failed == 'b' then state = 3 end
+                if state ~= 1 then
+                  redis.call('SET', KEYS[3], seq, 'EX', ARGV[3])
+                end
+                local entry = redis.call('XRANGE', KEYS[2], seq .. '-0', seq .. '-0')
+                if entry[1] then
+                  return {seq, state, entry[1][2][2]}
+                end
+                return {seq, state}
+              end
+            end
+            local seq = redis.call('INCR', KEYS[1])
+            redis.call('XADD', KEYS[2], 'MAXLEN', '~', ARGV[2], seq .. '-0', 'm', ARGV[1])
+            if #KEYS == 3 then
+              redis.call('SET', KEYS[3], seq, 'EX', ARGV[3])
+            end
+            return {seq, 0}
+            """, List.class);
+
+    /**
+     * 읽음 처리 (단조 증가 max + dirty 등록)
+     * KEYS[1] = seq 키, KEYS[2] = read 키, KEYS[3] = dirty set 키
+     * ARGV[1] = 요청 lastReadSeq, ARGV[2] = dirty 멤버 ("{roomId}:{userId}")
+     * return  = 반영 후 lastReadSeq (방 최신 seq 를 넘지 않고, 기존 값보다 작아지지 않음)
+     *           read 키가 없으면 아무것도 쓰지 않고 -1 (호출 측이 DB 값으로 키를 채운 뒤 다시 실행)
+     */
+    static final RedisScript<Long> MARK_READ = new DefaultRedisScript<>("""
+            local raw = redis.call('GET', KEYS[2])
+            if not raw then
+              return -1
+            end
+            local current = tonumber(redis.call('GET', KEYS[1]) or '0')
+            local requested = math.min(tonumber(ARGV[1]), current)
+            local prev = tonumber(raw)
+            if requested <= prev then
+              return prev
+            end
+            redis.call('SET', KEYS[2], requested)
+            redis.call('SADD', KEYS[3], ARGV[2])
+            return requested
+            """, Long.class);
+
+    /** 기동 시 SCRIPT LOAD 대상 */
+    static List<RedisScript<?>> all() {
+        return List.of(APPEND_MESSAGE, MARK_READ);
+    }
+}
@@ -1,36 +1,97 @@
 package kr.co.mongmate.infra.chat.service;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import kr.co.mongmate.api.chat.dto.ChatMessageDto;
+import kr.co.mongmate.domain.chat.repository.ChatReadStateJdbcRepository;
+import kr.co.mongmate.infra.chat.codec.ChatMessageCodecs;
+import kr.co.mongmate.infra.chat.store.ChatStore;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.stream.ByteRecord;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
+/**
+ * Redis ChatStore (chat.store.type=redis, 기본)
+ * - seq INCR + stream XADD 를 Lua 한 번으로, 읽음 커서는 키 + dirty set
+ * - 읽음 커서 키가 없으면(만료 / Redis 재시작) chat_read_state.last_read_seq 로 다시 채운다.
+ */
+@Slf4j
 @Service
 @RequiredArgsConstructor
-public class ChatRedisService {
+@ConditionalOnProperty(name = "chat.store.type", havingValue = "redis", matchIfMissing = true)
+public class ChatRedisService implements ChatStore {
+
+    /** 방별 최근 메시지 보관 개수 (XADD MAXLEN ~ 이라 실제로는 조금 더 남을 수 있음) */
+    private static final int MAX_MESSAGES = 1000;
+
+    private static final byte[] MAX_MESSAGES_ARG = String.valueOf(MAX_MESSAGES).getBytes(StandardCharsets.UTF_8);
+    private static final long DEFAULT_DEDUP_TTL_SECONDS = 300;
+
+    /** APPEND_MESSAGE 결과 state */
+    private static final int APPEND_NEW = 0;
+    private static final int APPEND_RETRY_PERSIST = 2;
+    private static final int APPEND_RETRY_BROADCAST = 3;
 
     private final StringRedisTemplate redisTemplate;
-    private final ObjectMapper objectMapper;
+    private final ChatMessageCodecs chatMessageCodecs;
+    private final ChatReadStateJdbcRepository chatReadStateJdbcRepository;
+
+    // clientMsgId 중복 제거 보관 시간 (초, Lua ARGV 로 그대로 전달)
+    private Duration dedupTtl = Duration.ofSeconds(DEFAULT_DEDUP_TTL_SECONDS);
+    private byte[] dedupTtlArg = String.valueOf(DEFAULT_DEDUP_TTL_SECONDS).getBytes(StandardCharsets.UTF_8);
 
     private String seqKey(String roomId) { return "chat:" + roomId + ":seq"; }
-    private String msgKey(String roomId) { return "chat:" + roomId + ":messages"; }
+    private String streamKey(String roomId) { return "chat:" + roomId + ":stream"; }
     private String readKey(String roomId, String userId) { return "chat:" + roomId + ":read:" + userId; }
+    private String dedupKey(String roomId, String userId, String clientMsgId) {
+        return "chat:" + roomId + ":dedup:" + userId + ":" + clientMsgId;
+    }
 
+    /** DB 반영 대기 중인 읽음 커서 ("{roomId}:{userId}") */
+    private static final String READ_DIRTY_KEY = "chat:read:dirty";
 
-    /** 방별 seq 발급(원자적) */
-    public long nextSeq(String roomId) {
-        Long seq = redisTemplate.opsForValue().increment(seqKey(roomId));
-        if (seq == null) throw new IllegalStateException("seq 발급 실패");
-        return seq;
+
+    @Value("${chat.send.dedup-ttl:5m}")
+    void setDedupTtl(Duration dedupTtl) {
+        this.dedupTtl = Duration.ofSeconds(Math.max(1, dedupTtl.toSeconds()));
+        this.dedupTtlArg = String.valueOf(this.dedupTtl.toSeconds()).getBytes(StandardCharsets.UTF_8);
+    }
+
+
+    /**
+     * 기동 시 스크립트를 미리 SCRIPT LOAD 해서 첫 EVALSHA 부터 NOSCRIPT 왕복이 없도록 한다.
+     * (Redis 가 아직 안 떠 있어도 기동은 계속 — 첫 호출 때 EVAL 로 fallback)
+     */
+    @PostConstruct
+    void loadScripts() {
+        for (RedisScript<?> script : ChatRedisScripts.all()) {
+            try {
+                byte[] body = script.getScriptAsString().getBytes(StandardCharsets.UTF_8);
+                redisTemplate.execute((RedisCallback<String>) connection ->
+                        connection.scriptingCommands().scriptLoad(body));
+            } catch (Exception e) {
+                log.warn("[CHAT-REDIS] script preload failed sha={} : {}", script.getSha1(), e.getMessage());
+            }
+        }
     }
 
 
     /** 방 최신 seq 조회 (없으면 0) */
+    @Override
     public long getCurrentSeq(String roomId) {
         String v = redisTemplate.opsForValue().get(seqKey(roomId));
         if (v == null) return 0L;
@@ -39,52 +100,250 @@ public class ChatRedisService {
     }
 
 
-    /** 유저 lastReadSeq 조회 (없으면 0) */
+    /** 유저 lastReadSeq 조회 (Redis 에 없으면 DB 값으로 채워서 반환) */
+    @Override
     public long getLastReadSeq(String roomId, String userId) {
         String v = redisTemplate.opsForValue().get(readKey(roomId, userId));
-        if (v == null) return 0L;
+        if (v == null) return seedReadCursor(roomId, userId);
         try { return Long.parseLong(v); }
         catch (NumberFormatException e) { return 0L; }
     }
 
 
-    /** lastReadSeq 저장 */
-    public void setLastReadSeq(String roomId, String userId, long lastReadSeq) {
-        redisTemplate.opsForValue().set(readKey(roomId, userId), String.valueOf(lastReadSeq));
-    }
+    /**
+     * 여러 방의 최신 seq + 유저 lastReadSeq 를 한 번에 조회
+     * - seq MGET + read MGET 두 명령을 파이프라인으로 보내서 Redis 왕복 1회
+     * - 반환 순서는 roomIds 순서와 같다 (값이 없으면 0, 유실된 읽음 커서는 호출 측이 DB 값과 합친다)
+     */
+    @Override
+    public List<RoomSeqState> getRoomSeqStates(List<String> roomIds, String userId) {
+        if (roomIds.isEmpty()) return List.of();
+
+        byte[][] seqKeys = new byte[roomIds.size()][];
+        byte[][] readKeys = new byte[roomIds.size()][];
+        for (int i = 0; i < roomIds.size(); i++) {
+            seqKeys[i] = seqKey(roomIds.get(i)).getBytes(StandardCharsets.UTF_8);
+            readKeys[i] = readKey(roomIds.get(i), userId).getBytes(StandardCharsets.UTF_8);
+        }
+
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.stringCommands().mGet(seqKeys);
+            connection.stringCommands().mGet(readKeys);
+            return null;
+        });
 
+        List<?> seqs = (List<?>) results.get(0);
+        List<?> reads = (List<?>) results.get(1);
 
-    /** 메시지 저장(JSON) */
-    public void saveMessage(ChatMessageDto msg) {
-        redisTemplate.opsForList().leftPush(msgKey(msg.roomId()), toJson(msg));
-        redisTemplate.opsForList().trim(msgKey(msg.roomId()), 0, 999);
+        List<RoomSeqState> states = new ArrayList<>(roomIds.size());
+        for (int i = 0; i < roomIds.size(); i++) {
+            states.add(new RoomSeqState(roomIds.get(i), parseSeq(seqs.get(i)), parseSeq(reads.get(i))));
+        }
+        return states;
     }
 
 
-    /** 최근 메시지 조회 */
-    public List<ChatMessageDto> loadRecent(String roomId, int limit) {
-        List<String> raw = redisTemplate.opsForList().range(msgKey(roomId), 0, limit - 1);
-        if (raw == null || raw.isEmpty()) return List.of();
+    /**
+     * 읽음 처리 (원자적, Redis 왕복 1회)
+     * - min(요청 seq, 방 최신 seq) 가 기존 값보다 클 때만 갱신 (뒤로 가지 않음)
+     * - 갱신되면 dirty set 에 등록 → ChatReadStateFlusher 가 주기적으로 DB 반영
+     * @return 반영 후 lastReadSeq
+     */
+    @Override
+    public long markRead(String roomId, String userId, long lastReadSeq) {
+        long result = runMarkRead(roomId, userId, lastReadSeq);
+        if (result >= 0) return result;
 
-        Collections.reverse(raw); // 최신 → 과거를 과거 → 최신으로
-        return raw.stream().map(this::fromJson).toList();
+        // 커서 키 유실 → DB 에 반영된 값으로 채운 뒤 한 번 더 (0 부터 다시 시작하면 안 읽은 수가 되살아남)
+        seedReadCursor(roomId, userId);
+        return Math.max(0L, runMarkRead(roomId, userId, lastReadSeq));
     }
 
+    private long runMarkRead(String roomId, String userId, long lastReadSeq) {
+        Long result = redisTemplate.execute(
+                ChatRedisScripts.MARK_READ,
+                List.of(seqKey(roomId), readKey(roomId, userId), READ_DIRTY_KEY),
+                String.valueOf(lastReadSeq),
+                roomId + ":" + userId
+        );
+        return result != null ? result : 0L;
+    }
 
-    private String toJson(ChatMessageDto msg) {
+    /**
+     * chat_read_state.last_read_seq 로 읽음 커서 키를 채운다.
+     * - SET NX 라서 그 사이 markRead 가 먼저 쓴 값은 덮어쓰지 않음
+     * @return 채운 뒤의 lastReadSeq
+     */
+    private long seedReadCursor(String roomId, String userId) {
+        long persisted;
         try {
-            return objectMapper.writeValueAsString(msg);
-        } catch (JsonProcessingException e) {
-            throw new IllegalStateException("ChatMessageDto JSON 직렬화 Fail", e);
+            persisted = chatReadStateJdbcRepository.findLastReadSeq(Long.parseLong(roomId), Long.parseLong(userId));
+        } catch (NumberFormatException e) {
+            persisted = 0L;
         }
+
+        String key = readKey(roomId, userId);
+        Boolean set = redisTemplate.opsForValue().setIfAbsent(key, String.valueOf(persisted));
+        if (Boolean.TRUE.equals(set)) return persisted;
+
+        return parseSeq(redisTemplate.opsForValue().get(key));
     }
 
-    private ChatMessageDto fromJson(String json) {
-        try {
-            return objectMapper.readValue(json, ChatMessageDto.class);
-        } catch (Exception e) {
-            throw new IllegalStateException("ChatMessageDto JSON 역직렬화 Fail : " + json, e);
+
+    /**
+     * dirty 읽음 커서를 최대 count 개 꺼내서 현재 값과 함께 반환 (SPOP + MGET)
+     * - 꺼낸 뒤 다시 읽음 처리가 들어오면 SADD 로 재등록되므로 유실 없음
+     */
+    @Override
+    public List<ReadCursor> popDirtyReadCursors(int count) {
+        List<String> members = redisTemplate.opsForSet().pop(READ_DIRTY_KEY, count);
+        if (members == null || members.isEmpty()) return List.of();
+
+        List<ReadCursor> cursors = new ArrayList<>(members.size());
+        List<String> keys = new ArrayList<>(members.size());
+        for (String member : members) {
+            int sep = member.indexOf(':');
+            if (sep <= 0) continue;
+            ReadCursor cursor = new ReadCursor(member.substring(0, sep), member.substring(sep + 1), 0L);
+            cursors.add(cursor);
+            keys.add(readKey(cursor.roomId(), cursor.userId()));
+        }
+        if (keys.isEmpty()) return List.of();
+
+        List<String> values = redisTemplate.opsForValue().multiGet(keys);
+        List<ReadCursor> result = new ArrayList<>(cursors.size());
+        for (int i = 0; i < cursors.size(); i++) {
+            String v = values != null ? values.get(i) : null;
+            if (v == null) continue;
+            try {
+                result.add(new ReadCursor(cursors.get(i).roomId(), cursors.get(i).userId(), Long.parseLong(v)));
+            } catch (NumberFormatException ignored) {
+                // 깨진 값은 버린다
+            }
         }
+        return result;
     }
-}
 
+
+    /** DB 반영 실패한 커서를 다시 dirty 로 등록 */
+    @Override
+    public void requeueDirtyReadCursors(List<ReadCursor> cursors) {
+        if (cursors.isEmpty()) return;
+
+        String[] members = cursors.stream()
+                .map(c -> c.roomId() + ":" + c.userId())
+                .toArray(String[]::new);
+        redisTemplate.opsForSet().add(READ_DIRTY_KEY, members);
+    }
+
+
+    /**
+     * 메시지 추가 + 재전송 중복 제거 (원자적, Redis 왕복 1회)
+     * - seq 발급(INCR) + XADD("{seq}-0") 를 Lua 스크립트 하나로 실행
+     * - stream entry id 가 곧 seq 라서 동시 전송 시에도 저장 순서 = seq 순서가 보장된다.
+     * - 본문은 ChatMessageCodecs 로 인코딩 (roomId / seq 는 본문에 넣지 않음)
+     * - clientMsgId 가 있으면 같은 스크립트 안에서 dedup 키를 확인/기록 (TTL = dedupTtl)
+     * - 이미 받은 clientMsgId 면 새 seq 를 발급하지 않고 stream 의 원본 메시지로 duplicate=true 반환
+     *   (원본이 trim 됐으면 seq 만 맞춘 재전송 본문으로)
+     */
+    @Override
+    public AppendResult appendMessage(String roomId, String userId, String content, String clientMsgId) {
+        ChatMessageDto draft = ChatMessageDto.of(roomId, 0L, userId, content);
+
+        List<String> keys = clientMsgId == null
+                ? List.of(seqKey(roomId), streamKey(roomId))
+                : List.of(seqKey(roomId), streamKey(roomId), dedupKey(roomId, userId, clientMsgId));
+
+        List<?> result = redisTemplate.execute(
+                ChatRedisScripts.APPEND_MESSAGE,
+                RedisSerializer.byteArray(),
+                RedisSerializer.byteArray(),
+                keys,
+                chatMessageCodecs.encode(draft),
+                MAX_MESSAGES_ARG,
+                dedupTtlArg
+        );
+        if (result == null || result.size() < 2) throw new IllegalStateException("seq 발급 실패");
+
+        long seq = ((Number) result.get(0)).longValue();
+        int state = ((Number) result.get(1)).intValue();
+        if (state == APPEND_NEW) {
+            return new AppendResult(new ChatMessageDto(roomId, seq, userId, content, draft.timestamp()), false);
+        }
+
+        ChatMessageDto original = result.size() > 2 && result.get(2) instanceof byte[] body
+                ? chatMessageCodecs.decode(roomId, seq, body)
+                : new ChatMessageDto(roomId, seq, userId, content, draft.timestamp());
+        SendStage resumeFrom = switch (state) {
+            case APPEND_RETRY_PERSIST -> SendStage.PERSIST;
+            case APPEND_RETRY_BROADCAST -> SendStage.BROADCAST;
+            default -> null;
+        };
+        return new AppendResult(original, true, resumeFrom);
+    }
+
+
+    /** dedup 값에 실패 단계를 붙여 둔다 (키가 있을 때만, TTL 은 다시 dedupTtl) */
+    @Override
+    public void markSendFailed(String roomId, String userId, String clientMsgId, long seq, SendStage failedAt) {
+        String marker = seq + (failedAt == SendStage.PERSIST ? ":p" : ":b");
+        redisTemplate.opsForValue().setIfPresent(dedupKey(roomId, userId, clientMsgId), marker, dedupTtl);
+    }
+
+
+    /** 최근 메시지 조회 (과거 → 최신) */
+    @Override
+    public List<ChatMessageDto> loadRecent(String roomId, int limit) {
+        return readStream(roomId, Range.unbounded(), limit, true);
+    }
+
+
+    /** afterSeq 초과 메시지를 오래된 순으로 최대 limit 개 (XRANGE, O(log n + k)) */
+    @Override
+    public List<ChatMessageDto> loadAfter(String roomId, long afterSeq, int limit) {
+        return readStream(roomId, Range.rightUnbounded(Range.Bound.inclusive(entryId(afterSeq + 1))), limit, false);
+    }
+
+
+    /** beforeSeq 미만 메시지 중 최신 limit 개를 오래된 순으로 (XREVRANGE, O(log n + k)) */
+    @Override
+    public List<ChatMessageDto> loadBefore(String roomId, long beforeSeq, int limit) {
+        if (beforeSeq <= 1) return List.of();
+
+        return readStream(roomId, Range.leftUnbounded(Range.Bound.inclusive(entryId(beforeSeq - 1))), limit, true);
+    }
+
+
+    private static long parseSeq(Object v) {
+        if (v == null) return 0L;
+        try { return Long.parseLong(v.toString()); }
+        catch (NumberFormatException e) { return 0L; }
+    }
+
+    private static String entryId(long seq) {
+        return seq + "-0";
+    }
+
+    /**
+     * 바이너리 본문을 그대로 받기 위해 StreamOperations(String 직렬화) 대신 connection 레벨로 읽는다.
+     * reverse=true 면 XREVRANGE 후 과거 → 최신으로 뒤집어서 반환
+     */
+    private List<ChatMessageDto> readStream(String roomId, Range<String> range, int limit, boolean reverse) {
+        byte[] key = streamKey(roomId).getBytes(StandardCharsets.UTF_8);
+        Limit count = Limit.limit().count(limit);
+
+        List<ByteRecord> raw = redisTemplate.execute((RedisCallback<List<ByteRecord>>) connection -> reverse
+                ? connection.streamCommands().xRevRange(key, range, count)
+                : connection.streamCommands().xRange(key, range, count));
+        if (raw == null || raw.isEmpty()) return List.of();
+
+        List<ChatMessageDto> messages = new ArrayList<>(raw.size());
+        for (ByteRecord record : raw) {
+            // entry 필드는 하나(m)뿐 — byte[] 키 맵이라 get 대신 첫 값을 꺼낸다.
+            byte[] body = record.getValue().values().iterator().next();
+            messages.add(chatMessageCodecs.decode(roomId, record.getId().getTimestamp(), body));
+        }
+        if (reverse) Collections.reverse(messages); // 최신 → 과거를 과거 → 최신으로
+        return messages;
+    }
+}
@@ -0,0 +1,83 @@
+package kr.co.mongmate.infra.chat.store;
+
+import kr.co.mongmate.api.chat.dto.ChatMessageDto;
+
+import java.util.List;
+
+/**
+ * 채팅 hot storage SPI (seq 발급, 최근 메시지, 읽음 커서)
+ *
+ * - chat.store.type=redis (기본): ChatRedisService — 여러 노드가 Redis 하나를 공유
+ * - chat.store.type=memory: InMemoryChatStore — 단일 노드 / 벤치마크용, 메시지마다 네트워크 왕복 없음
+ * - MySQL(chat_message, chat_read_state)은 어느 구현이든 write-behind / flusher 가 따로 반영한다.
+ */
+public interface ChatStore {
+
+    /** 방 최신 seq (없으면 0) */
+    long getCurrentSeq(String roomId);
+
+    /** 유저 lastReadSeq (없으면 0) */
+    long getLastReadSeq(String roomId, String userId);
+
+    /** 여러 방의 최신 seq + 유저 lastReadSeq (roomIds 순서 그대로) */
+    List<RoomSeqState> getRoomSeqStates(List<String> roomIds, String userId);
+
+    /**
+     * 읽음 처리: min(요청 seq, 방 최신 seq) 가 기존 값보다 클 때만 갱신하고 dirty 로 등록
+     * @return 반영 후 lastReadSeq
+     */
+    long markRead(String roomId, String userId, long lastReadSeq);
+
+    /** DB 반영 대기 중인 읽음 커서를 최대 count 개 꺼냄 */
+    List<ReadCursor> popDirtyReadCursors(int count);
+
+    /** DB 반영 실패한 커서를 다시 dirty 로 등록 */
+    void requeueDirtyReadCursors(List<ReadCursor> cursors);
+
+    /**
+     * seq 발급 + 메시지 추가 (발급 순서 = 저장 순서)
+     * - clientMsgId 가 있으면 재전송 중복 제거: 이미 처리된 값이면 새 seq 없이 기존 메시지로 duplicate=true
+     * - 이전 시도가 markSendFailed 로 실패 표시돼 있으면 resumeFrom 에 다시 실행할 단계를 담아 돌려준다.
+     */
+    AppendResult appendMessage(String roomId, String userId, String content, String clientMsgId);
+
+    /**
+     * append 이후 영속화 / 브로드캐스트 단계가 실패했음을 dedup 상태에 기록
+     * - 같은 clientMsgId 재전송이 실패한 단계부터 다시 실행하게 된다. (dedup 이 없거나 만료됐으면 아무것도 안 함)
+     */
+    void markSendFailed(String roomId, String userId, String clientMsgId, long seq, SendStage failedAt);
+
+    default ChatMessageDto appendMessage(String roomId, String userId, String content) {
+        return appendMessage(roomId, userId, content, null).message();
+    }
+
+    /** 최근 메시지 (과거 → 최신) */
+    List<ChatMessageDto> loadRecent(String roomId, int limit);
+
+    /** afterSeq 초과 메시지를 오래된 순으로 최대 limit 개 */
+    List<ChatMessageDto> loadAfter(String roomId, long afterSeq, int limit);
+
+    /** beforeSeq 미만 메시지 중 최신 limit 개를 오래된 순으로 */
+    List<ChatMessageDto> loadBefore(String roomId, long beforeSeq, int limit);
+
+    /**
+     * 메시지 추가 결과
+     * - duplicate=true 면 이미 받은 clientMsgId (message 는 원본 seq / 시각 / 본문)
+     * - resumeFrom: 이번 요청에서 실행할 첫 단계 (새 메시지면 PERSIST, 처리 완료된 재전송이면 null)
+     */
+    record AppendResult(ChatMessageDto message, boolean duplicate, SendStage resumeFrom) {
+
+        public AppendResult(ChatMessageDto message, boolean duplicate) {
+            this(message, duplicate, duplicate ? null : SendStage.PERSIST);
+        }
+    }
+
+    /** append 이후 단계 (PERSIST 부터 다시 하면 BROADCAST 도 다시 실행) */
+    enum SendStage { PERSIST, BROADCAST }
+
+    /** 방 최신 seq + 유저 lastReadSeq */
+    record RoomSeqState(String roomId, long currentSeq, long lastReadSeq) {}
+
+    /** 읽음 커서 (roomId, userId, lastReadSeq) */
+    record ReadCursor(String roomId, String userId, long lastReadSeq) {}
+}
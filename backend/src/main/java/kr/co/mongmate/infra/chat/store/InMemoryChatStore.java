@@ -0,0 +1,295 @@
+package kr.co.mongmate.infra.chat.store;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import kr.co.mongmate.api.chat.dto.ChatMessageDto;
+import kr.co.mongmate.domain.chat.repository.ChatMessageJdbcRepository;
+import kr.co.mongmate.domain.chat.repository.ChatReadStateJdbcRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 프로세스 내 ChatStore (chat.store.type=memory, 단일 노드 / 벤치마크용)
+ *
+ * - 방마다 AtomicLong seq + 고정 크기 ring buffer (AtomicReferenceArray, slot = seq & mask)
+ *   append 는 incrementAndGet + slot set 두 번의 원자 연산뿐이라 락이 없다.
+ * - 읽을 때 slot 의 seq 가 기대값보다 크면 이미 덮어쓴(trim 된) 구간 → 건너뜀
+ *   (Redis stream trim 과 같은 의미, 빠진 구간은 ChatHistoryService 가 MySQL 에서 보충)
+ * - slot 이 비었거나 더 작은 seq 면 발급만 되고 아직 기록 전 → 거기서 멈춘다. (건너뛰면 그 seq 를 영영 못 받음)
+ * - clientMsgId 중복 제거는 dedup-ttl 동안 Caffeine 에 보관
+ * - 방 seq / 읽음 커서는 처음 접근할 때 MySQL (chat_message MAX(seq), chat_read_state) 에서 채운다.
+ *   재시작해도 seq 가 0 부터 다시 발급되지 않고, 최근 메시지 ring 만 비어서 MySQL 보충으로 넘어간다.
+ * - 노드 간 공유가 안 되므로 chat.broadcast.relay=local 인 단일 노드에서만 사용
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "chat.store.type", havingValue = "memory")
+public class InMemoryChatStore implements ChatStore {
+
+    private final ChatMessageJdbcRepository chatMessageJdbcRepository;
+    private final ChatReadStateJdbcRepository chatReadStateJdbcRepository;
+    private final int capacity;
+    private final Map<String, Room> rooms = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> readCursors = new ConcurrentHashMap<>();
+    private final Set<String> dirtyReadCursors = ConcurrentHashMap.newKeySet();
+    private final Cache<String, DedupEntry> dedup;
+
+    @Value("${chat.broadcast.relay:local}")
+    private String relay;
+
+    public InMemoryChatStore(
+            ChatMessageJdbcRepository chatMessageJdbcRepository,
+            ChatReadStateJdbcRepository chatReadStateJdbcRepository,
+            @Value("${chat.store.memory.capacity-per-room:1024}") int capacityPerRoom,
+            @Value("${chat.send.dedup-ttl:5m}") Duration dedupTtl
+    ) {
+        this.chatMessageJdbcRepository = chatMessageJdbcRepository;
+        this.chatReadStateJdbcRepository = chatReadStateJdbcRepository;
+        // mask 연산을 위해 2의 거듭제곱으로 올림
+        this.capacity = Integer.highestOneBit(Math.max(2, capacityPerRoom) * 2 - 1);
+        this.dedup = Caffeine.newBuilder()
+                .expireAfterWrite(dedupTtl)
+                .build();
+    }
+
+    @PostConstruct
+    void warnIfShared() {
+        if (!"local".equals(relay)) {
+            log.warn("[CHAT-STORE] in-memory store with chat.broadcast.relay={} : seq / history are not shared between nodes",
+                    relay);
+        }
+    }
+
+    @Override
+    public long getCurrentSeq(String roomId) {
+        return room(roomId).seq.get();
+    }
+
+    @Override
+    public long getLastReadSeq(String roomId, String userId) {
+        return cursor(roomId, userId).get();
+    }
+
+    @Override
+    public List<RoomSeqState> getRoomSeqStates(List<String> roomIds, String userId) {
+        List<RoomSeqState> states = new ArrayList<>(roomIds.size());
+        for (String roomId : roomIds) {
+            states.add(new RoomSeqState(roomId, getCurrentSeq(roomId), getLastReadSeq(roomId, userId)));
+        }
+        return states;
+    }
+
+    @Override
+    public long markRead(String roomId, String userId, long lastReadSeq) {
+        long target = Math.min(lastReadSeq, getCurrentSeq(roomId));
+        String key = cursorKey(roomId, userId);
+        AtomicLong cursor = cursor(roomId, userId);
+
+        long before = cursor.getAndAccumulate(target, Math::max);
+        if (target > before) {
+            dirtyReadCursors.add(key);
+            return target;
+        }
+        return before;
+    }
+
+    @Override
+    public List<ReadCursor> popDirtyReadCursors(int count) {
+        List<ReadCursor> cursors = new ArrayList<>(Math.min(count, dirtyReadCursors.size()));
+        Iterator<String> it = dirtyReadCursors.iterator();
+        while (it.hasNext() && cursors.size() < count) {
+            String key = it.next();
+            it.remove();
+
+            int sep = key.indexOf(':');
+            AtomicLong cursor = readCursors.get(key);
+            if (sep <= 0 || cursor == null) continue;
+            cursors.add(new ReadCursor(key.substring(0, sep), key.substring(sep + 1), cursor.get()));
+        }
+        return cursors;
+    }
+
+    @Override
+    public void requeueDirtyReadCursors(List<ReadCursor> cursors) {
+        for (ReadCursor c : cursors) {
+            dirtyReadCursors.add(cursorKey(c.roomId(), c.userId()));
+        }
+    }
+
+    @Override
+    public AppendResult appendMessage(String roomId, String userId, String content, String clientMsgId) {
+        Room room = room(roomId);
+        if (clientMsgId == null) {
+            return new AppendResult(room.append(roomId, userId, content), false);
+        }
+
+        // 같은 clientMsgId 동시 재전송도 한 번만 append 되도록 map 계산 안에서 발급
+        String key = dedupKey(roomId, userId, clientMsgId);
+        ChatMessageDto[] appended = new ChatMessageDto[1];
+        DedupEntry entry = dedup.asMap().computeIfAbsent(key, k -> {
+            appended[0] = room.append(roomId, userId, content);
+            return new DedupEntry(appended[0].seq(), null);
+        });
+        if (appended[0] != null) return new AppendResult(appended[0], false);
+
+        // 실패 표시된 전송의 재시도: 표시를 지운 요청 하나만 실패 단계부터 다시 실행
+        SendStage resumeFrom = entry.failedAt() != null
+                && dedup.asMap().replace(key, entry, new DedupEntry(entry.seq(), null))
+                ? entry.failedAt() : null;
+
+        // 재전송: 원본이 아직 ring 에 있으면 그대로, 밀려났으면 seq 만 맞춰서 돌려준다
+        ChatMessageDto original = room.get(entry.seq());
+        return new AppendResult(original != null ? original
+                : new ChatMessageDto(roomId, entry.seq(), userId, content, System.currentTimeMillis()), true, resumeFrom);
+    }
+
+    @Override
+    public void markSendFailed(String roomId, String userId, String clientMsgId, long seq, SendStage failedAt) {
+        dedup.asMap().computeIfPresent(dedupKey(roomId, userId, clientMsgId),
+                (k, e) -> e.seq() == seq ? new DedupEntry(seq, failedAt) : e);
+    }
+
+    @Override
+    public List<ChatMessageDto> loadRecent(String roomId, int limit) {
+        Room room = rooms.get(roomId);
+        if (room == null) return List.of();
+        return loadBefore(roomId, room.seq.get() + 1, limit);
+    }
+
+    @Override
+    public List<ChatMessageDto> loadAfter(String roomId, long afterSeq, int limit) {
+        Room room = rooms.get(roomId);
+        if (room == null) return List.of();
+
+        long current = room.seq.get();
+        // ring 에 남아 있는 가장 오래된 seq 부터
+        long from = Math.max(afterSeq + 1, room.oldestSeq(current));
+        List<ChatMessageDto> messages = new ArrayList<>(Math.min(limit, (int) Math.max(0, current - from + 1)));
+        for (long s = from; s <= current && messages.size() < limit; s++) {
+            ChatMessageDto m = room.slot(s);
+            if (m == null || m.seq() < s) break;
+            if (m.seq() == s) messages.add(m);
+        }
+        return messages;
+    }
+
+    @Override
+    public List<ChatMessageDto> loadBefore(String roomId, long beforeSeq, int limit) {
+        Room room = rooms.get(roomId);
+        if (room == null || beforeSeq <= 1) return List.of();
+
+        long current = room.seq.get();
+        // 아직 발급되지 않은 seq 를 주면 최신 limit 개 (Redis XREVRANGE 와 동일)
+        long before = Math.min(beforeSeq, current + 1);
+        long from = Math.max(room.oldestSeq(current), before - limit);
+        List<ChatMessageDto> messages = new ArrayList<>((int) Math.max(0, before - from));
+        for (long s = from; s < before; s++) {
+            ChatMessageDto m = room.slot(s);
+            if (m == null || m.seq() < s) break;
+            if (m.seq() == s) messages.add(m);
+        }
+        return messages;
+    }
+
+    /**
+     * 방이 처음이면 MySQL 에 저장된 마지막 seq 로 시작
+     * (DB 조회를 computeIfAbsent 안에서 하면 같은 bin 의 다른 방까지 막히므로 밖에서 읽고 putIfAbsent, 동시에 채워도 값은 같음)
+     */
+    private Room room(String roomId) {
+        Room room = rooms.get(roomId);
+        if (room != null) return room;
+
+        Room seeded = new Room(capacity, loadMaxSeq(roomId));
+        Room prev = rooms.putIfAbsent(roomId, seeded);
+        return prev != null ? prev : seeded;
+    }
+
+    /** 읽음 커서가 처음이면 chat_read_state.last_read_seq 로 시작 (0 부터 다시 시작하면 안 읽은 수가 되살아남) */
+    private AtomicLong cursor(String roomId, String userId) {
+        String key = cursorKey(roomId, userId);
+        AtomicLong cursor = readCursors.get(key);
+        if (cursor != null) return cursor;
+
+        AtomicLong seeded = new AtomicLong(loadLastReadSeq(roomId, userId));
+        AtomicLong prev = readCursors.putIfAbsent(key, seeded);
+        return prev != null ? prev : seeded;
+    }
+
+    private long loadMaxSeq(String roomId) {
+        try {
+            return chatMessageJdbcRepository.findMaxSeq(Long.parseLong(roomId));
+        } catch (NumberFormatException e) {
+            return 0L;
+        }
+    }
+
+    private long loadLastReadSeq(String roomId, String userId) {
+        try {
+            return chatReadStateJdbcRepository.findLastReadSeq(Long.parseLong(roomId), Long.parseLong(userId));
+        } catch (NumberFormatException e) {
+            return 0L;
+        }
+    }
+
+    private static String cursorKey(String roomId, String userId) {
+        return roomId + ":" + userId;
+    }
+
+    private static String dedupKey(String roomId, String userId, String clientMsgId) {
+        return roomId + ":" + userId + ":" + clientMsgId;
+    }
+
+    /** clientMsgId → 발급된 seq (+ 실패한 단계, 처리 중/완료면 null) */
+    private record DedupEntry(long seq, SendStage failedAt) {}
+
+    private static final class Room {
+        private final AtomicLong seq = new AtomicLong();
+        private final AtomicReferenceArray<ChatMessageDto> slots;
+        private final int mask;
+        /** 이 프로세스에서 처음 발급한 seq (그 전 seq 는 MySQL 에만 있음) */
+        private final long firstSeq;
+
+        private Room(int capacity, long initialSeq) {
+            this.seq.set(initialSeq);
+            this.firstSeq = initialSeq + 1;
+            this.slots = new AtomicReferenceArray<>(capacity);
+            this.mask = capacity - 1;
+        }
+
+        ChatMessageDto append(String roomId, String userId, String content) {
+            long s = seq.incrementAndGet();
+            ChatMessageDto message = ChatMessageDto.of(roomId, s, userId, content);
+            slots.set((int) (s & mask), message);
+            return message;
+        }
+
+        /** 해당 seq 가 아직 slot 에 있으면 반환 (덮어썼거나 기록 전이면 null) */
+        ChatMessageDto get(long s) {
+            ChatMessageDto m = slot(s);
+            return m != null && m.seq() == s ? m : null;
+        }
+
+        /** s 가 들어갈 slot 의 현재 값 (seq 가 s 보다 크면 덮어씀, 작거나 null 이면 기록 전) */
+        ChatMessageDto slot(long s) {
+            return slots.get((int) (s & mask));
+        }
+
+        /** ring 에 있을 수 있는 가장 오래된 seq */
+        long oldestSeq(long current) {
+            return Math.max(firstSeq, current - mask);
+        }
+    }
+}
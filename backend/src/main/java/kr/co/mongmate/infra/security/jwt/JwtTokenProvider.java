@@ -1,5 +1,8 @@
 package kr.co.mongmate.infra.security.jwt;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
@@ -13,7 +16,11 @@ import org.springframework.stereotype.Component;
 
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 @Component
@@ -24,8 +31,21 @@ public class JwtTokenProvider {
     @Value("${jwt.secret}")
     private String secret;
 
+    @Value("${jwt.verified-cache.max-size:50000}")
+    private long verifiedCacheMaxSize;
+
+    // exp 가 없는 토큰의 최대 캐시 시간
+    @Value("${jwt.verified-cache.max-ttl:10m}")
+    private Duration verifiedCacheMaxTtl;
+
     private Key key;
 
+    // 서명 키가 고정이라 parser 는 한 번만 만들어서 재사용 (thread-safe)
+    private JwtParser parser;
+
+    // 검증 완료 토큰 캐시: SHA-256(token) → Authentication, 토큰 exp 시점에 만료
+    private Cache<String, VerifiedToken> verifiedTokens;
+
     @PostConstruct
     void init() {
         // 1) 보편적으로는 secret을 Base64로 관리
@@ -38,28 +58,33 @@ public class JwtTokenProvider {
             keyBytes = secret.getBytes(StandardCharsets.UTF_8);
         }
         this.key = Keys.hmacShaKeyFor(keyBytes);
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedCacheMaxSize)
+                .expireAfter(new VerifiedTokenExpiry(verifiedCacheMaxTtl.toNanos()))
+                .build();
     }
 
     /** (1) 토큰 유효성 검증: 서명/만료/형식 */
     public void validateTokenOrThrow(String token) {
-        try {
-            Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token); // 여기서 서명 + exp 검증
-        } catch (ExpiredJwtException e) {
-            throw new JwtException("Expired JWT token", e);
-        } catch (SecurityException | MalformedJwtException e) {
-            throw new JwtException("Invalid JWT signature/format", e);
-        } catch (UnsupportedJwtException e) {
-            throw new JwtException("Unsupported JWT token", e);
-        } catch (IllegalArgumentException e) {
-            throw new JwtException("JWT token is empty", e);
-        }
+        parseClaims(token);
     }
 
-    /** (2) 토큰에서 Authentication 생성 (STOMP Principal로 쓰기 좋음) */
+    /**
+     * (2) 토큰에서 Authentication 생성 (STOMP Principal로 쓰기 좋음)
+     * - 한 번 검증된 토큰은 exp 까지 캐시된 Authentication 을 그대로 반환 (재접속 폭주 시 HMAC 재검증 생략)
+     */
     public Authentication getAuthentication(String token) {
+        if (token == null || token.isBlank()) {
+            throw new JwtException("JWT token is empty");
+        }
+
+        String cacheKey = hash(token);
+        VerifiedToken cached = verifiedTokens.getIfPresent(cacheKey);
+        if (cached != null) return cached.authentication();
+
         Claims claims = parseClaims(token);
 
         String subject = claims.getSubject(); // 보통 userId 또는 username/email
@@ -72,16 +97,34 @@ public class JwtTokenProvider {
         // DB 조회 없이 토큰만으로 principal 구성
         User principal = new User(subject, "", authorities);
 
-        return new UsernamePasswordAuthenticationToken(principal, token, authorities);
+        Authentication authentication = new UsernamePasswordAuthenticationToken(principal, token, authorities);
+        Date exp = claims.getExpiration();
+        verifiedTokens.put(cacheKey, new VerifiedToken(authentication, exp != null ? exp.getTime() : null));
+        return authentication;
     }
 
+    /** 파싱 1회 = 서명 + exp 검증 + claims 추출 */
     private Claims parseClaims(String token) {
-        validateTokenOrThrow(token);
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        try {
+            return parser.parseClaimsJws(token).getBody();
+        } catch (ExpiredJwtException e) {
+            throw new JwtException("Expired JWT token", e);
+        } catch (SecurityException | MalformedJwtException e) {
+            throw new JwtException("Invalid JWT signature/format", e);
+        } catch (UnsupportedJwtException e) {
+            throw new JwtException("Unsupported JWT token", e);
+        } catch (IllegalArgumentException e) {
+            throw new JwtException("JWT token is empty", e);
+        }
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
     }
 
     private List<SimpleGrantedAuthority> extractAuthorities(Claims claims) {
@@ -107,4 +150,28 @@ public class JwtTokenProvider {
                 .map(SimpleGrantedAuthority::new)
                 .collect(Collectors.toList());
     }
-}
\ No newline at end of file
+
+    private record VerifiedToken(Authentication authentication, Long expiresAtMillis) {}
+
+    /** 토큰 exp 까지만 보관 (exp 가 없으면 max-ttl) */
+    private record VerifiedTokenExpiry(long maxTtlNanos) implements Expiry<String, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            if (value.expiresAtMillis() == null) return maxTtlNanos;
+
+            long remainingMillis = value.expiresAtMillis() - System.currentTimeMillis();
+            return Math.max(0, Math.min(maxTtlNanos, TimeUnit.MILLISECONDS.toNanos(remainingMillis)));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package kr.co.mongmate.ws.chat;
+
+/**
+ * 채팅 STOMP destination 규칙
+ */
+public final class ChatDestinations {
+
+    public static final String ROOM_TOPIC_PREFIX = "/topic/chat.room.";
+
+    /** 입력 중 표시 topic (메시지 목록과 분리, 저장/seq 없음) */
+    public static final String TYPING_TOPIC_PREFIX = "/topic/chat.typing.";
+
+    /** 개인 큐 (/user/queue/**) — 세션 본인에게만 전달되므로 방 인가 불필요 */
+    public static final String USER_QUEUE_PREFIX = "/user/queue/";
+
+    private ChatDestinations() {
+    }
+
+    /** 방 메시지 topic: /topic/chat.room.{roomId} */
+    public static String roomTopic(String roomId) {
+        return ROOM_TOPIC_PREFIX + roomId;
+    }
+
+    /** 입력 중 표시 topic: /topic/chat.typing.{roomId} */
+    public static String typingTopic(String roomId) {
+        return TYPING_TOPIC_PREFIX + roomId;
+    }
+
+    public static boolean isUserQueue(String destination) {
+        return destination != null && destination.startsWith(USER_QUEUE_PREFIX);
+    }
+
+    /** 방 topic 이면 roomId, 아니면 null */
+    public static String roomIdOf(String destination) {
+        if (destination == null || !destination.startsWith(ROOM_TOPIC_PREFIX)) return null;
+        String roomId = destination.substring(ROOM_TOPIC_PREFIX.length());
+        return roomId.isEmpty() ? null : roomId;
+    }
+
+    /** 방 단위 topic(메시지 / 입력 중) 이면 roomId, 아니면 null — 구독 인가, relay 구독 계산용 */
+    public static String roomIdOfAny(String destination) {
+        String roomId = roomIdOf(destination);
+        if (roomId != null || destination == null || !destination.startsWith(TYPING_TOPIC_PREFIX)) return roomId;
+        roomId = destination.substring(TYPING_TOPIC_PREFIX.length());
+        return roomId.isEmpty() ? null : roomId;
+    }
+}
@@ -0,0 +1,14 @@
+package kr.co.mongmate.ws.chat.broadcast;
+
+/**
+ * 방 / 유저 단위 STOMP 브로드캐스트
+ * - local: 이 노드의 simple broker 로 바로 전달 (단일 노드)
+ * - redis: Redis pub/sub 으로 모든 노드에 전달 후 각 노드가 로컬 세션에 전달 (멀티 노드)
+ */
+public interface ChatBroadcaster {
+
+    void broadcast(String roomId, String destination, Object payload);
+
+    /** 유저 개인 큐로 전달 (destination 은 /queue/... , 클라이언트는 /user/queue/... 구독) */
+    void sendToUser(String userId, String destination, Object payload);
+}
@@ -0,0 +1,196 @@
+package kr.co.mongmate.ws.chat.broadcast;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PreDestroy;
+import kr.co.mongmate.api.chat.dto.ChatMessageDto;
+import kr.co.mongmate.ws.chat.ChatDestinations;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 방 메시지 브로드캐스트 적응형 micro-batching
+ *
+ * - 방별 초당 메시지 수가 threshold-per-sec 미만이면 지금처럼 메시지 1건 = 프레임 1개
+ * - 넘어가면 linger-ms 동안 모아서 배열 프레임([msg, msg, ...]) 1개로 전송 (max-batch 도달 시 즉시)
+ * - 순서 유지: 방별 전송은 한 번에 하나만 (sending). 버퍼가 남아 있거나 전송 중에 들어온 메시지는
+ *   한산한 구간이라도 항상 버퍼로 → 앞선 묶음보다 먼저 나가지 않는다.
+ * - 클라이언트는 방 topic 프레임이 객체/배열 둘 다 올 수 있다고 보고 처리
+ */
+@Slf4j
+@Component
+public class ChatRoomBroadcastBatcher {
+
+    private static final long RATE_WINDOW_MS = 1000;
+
+    private final ChatBroadcaster chatBroadcaster;
+    private final boolean enabled;
+    private final int thresholdPerSec;
+    private final long lingerMs;
+    private final int maxBatch;
+    private final long rateWindowMs;
+
+    private final Cache<String, RoomState> rooms = Caffeine.newBuilder()
+            .expireAfterAccess(Duration.ofMinutes(1))
+            .build();
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "chat-broadcast-batcher");
+        t.setDaemon(true);
+        return t;
+    });
+
+    @Autowired
+    public ChatRoomBroadcastBatcher(
+            ChatBroadcaster chatBroadcaster,
+            @Value("${chat.broadcast.batch.enabled:true}") boolean enabled,
+            @Value("${chat.broadcast.batch.threshold-per-sec:20}") int thresholdPerSec,
+            @Value("${chat.broadcast.batch.linger-ms:20}") long lingerMs,
+            @Value("${chat.broadcast.batch.max-batch:100}") int maxBatch
+    ) {
+        this(chatBroadcaster, enabled, thresholdPerSec, lingerMs, maxBatch, RATE_WINDOW_MS);
+    }
+
+    /** 테스트에서 rate window 를 줄이기 위한 생성자 */
+    ChatRoomBroadcastBatcher(ChatBroadcaster chatBroadcaster, boolean enabled, int thresholdPerSec,
+                             long lingerMs, int maxBatch, long rateWindowMs) {
+        this.chatBroadcaster = chatBroadcaster;
+        this.enabled = enabled;
+        this.thresholdPerSec = thresholdPerSec;
+        this.lingerMs = lingerMs;
+        this.maxBatch = maxBatch;
+        this.rateWindowMs = rateWindowMs;
+    }
+
+    /** 방 topic 으로 메시지 전송 (한산하면 즉시, 붐비면 묶어서) */
+    public void publish(ChatMessageDto message) {
+        String roomId = message.roomId();
+        if (!enabled) {
+            chatBroadcaster.broadcast(roomId, ChatDestinations.roomTopic(roomId), message);
+            return;
+        }
+
+        RoomState state = rooms.get(roomId, k -> new RoomState());
+        List<ChatMessageDto> ready = null;
+
+        synchronized (state) {
+            long now = System.currentTimeMillis();
+            if (now - state.windowStart >= rateWindowMs) {
+                state.windowStart = now;
+                state.count = 0;
+            }
+            state.count++;
+
+            if (!state.sending && state.pending.isEmpty() && state.count <= thresholdPerSec) {
+                state.sending = true;
+                ready = new ArrayList<>(List.of(message));
+            } else {
+                state.pending.add(message);
+                if (state.sending) {
+                    // 전송 중인 스레드가 끝나고 이어서 처리
+                } else if (state.pending.size() >= maxBatch) {
+                    state.sending = true;
+                    ready = state.drain(maxBatch);
+                } else {
+                    scheduleFlush(roomId, state);
+                }
+            }
+        }
+
+        // 전송은 lock 밖에서 (Redis PUBLISH / 로컬 브로커 호출이 다른 publish 를 막지 않도록)
+        if (ready != null) sendInOrder(roomId, state, ready);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        scheduler.shutdownNow();
+        rooms.asMap().forEach((roomId, state) -> {
+            List<ChatMessageDto> rest;
+            synchronized (state) {
+                rest = state.drain(Integer.MAX_VALUE);
+            }
+            if (!rest.isEmpty()) send(roomId, rest);
+        });
+    }
+
+    private void flush(String roomId, RoomState state) {
+        List<ChatMessageDto> batch;
+        synchronized (state) {
+            state.flushScheduled = false;
+            // 전송 중이면 그 스레드가 끝난 뒤 남은 버퍼를 이어서 처리
+            if (state.sending || state.pending.isEmpty()) return;
+            state.sending = true;
+            batch = state.drain(maxBatch);
+        }
+        sendInOrder(roomId, state, batch);
+    }
+
+    /**
+     * sending 을 잡은 스레드만 호출. 보낸 뒤 버퍼가 max-batch 이상이면 바로 이어서,
+     * 그보다 적으면 linger 후 flush 로 넘기고 sending 을 놓는다.
+     */
+    private void sendInOrder(String roomId, RoomState state, List<ChatMessageDto> batch) {
+        while (true) {
+            send(roomId, batch);
+            synchronized (state) {
+                if (state.pending.size() >= maxBatch) {
+                    batch = state.drain(maxBatch);
+                    continue;
+                }
+                state.sending = false;
+                if (!state.pending.isEmpty()) scheduleFlush(roomId, state);
+                return;
+            }
+        }
+    }
+
+    /** state lock 안에서 호출 */
+    private void scheduleFlush(String roomId, RoomState state) {
+        if (state.flushScheduled) return;
+        state.flushScheduled = true;
+        scheduler.schedule(() -> flush(roomId, state), lingerMs, TimeUnit.MILLISECONDS);
+    }
+
+    private void send(String roomId, List<ChatMessageDto> batch) {
+        // 여러 스레드에서 들어온 메시지라 적재 순서 ≠ seq 순서일 수 있음
+        batch.sort(Comparator.comparingLong(ChatMessageDto::seq));
+        try {
+            chatBroadcaster.broadcast(roomId, ChatDestinations.roomTopic(roomId),
+                    batch.size() == 1 ? batch.get(0) : batch);
+        } catch (Exception e) {
+            log.warn("[WS-BATCH] broadcast failed room={} size={} : {}", roomId, batch.size(), e.getMessage());
+        }
+    }
+
+    private static final class RoomState {
+        private long windowStart;
+        private int count;
+        private boolean flushScheduled;
+        /** 이 방의 프레임을 보내는 중인 스레드가 있음 (방별 전송 직렬화) */
+        private boolean sending;
+        private List<ChatMessageDto> pending = new ArrayList<>();
+
+        /** 먼저 들어온 순서대로 최대 max 개 */
+        private List<ChatMessageDto> drain(int max) {
+            if (pending.size() <= max) {
+                List<ChatMessageDto> drained = pending;
+                pending = new ArrayList<>();
+                return drained;
+            }
+            List<ChatMessageDto> head = pending.subList(0, max);
+            List<ChatMessageDto> drained = new ArrayList<>(head);
+            head.clear();
+            return drained;
+        }
+    }
+}
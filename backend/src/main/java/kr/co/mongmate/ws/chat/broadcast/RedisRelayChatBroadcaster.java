@@ -0,0 +1,220 @@
+package kr.co.mongmate.ws.chat.broadcast;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import kr.co.mongmate.ws.chat.ChatDestinations;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.simp.user.SimpUserRegistry;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Redis pub/sub 기반 멀티 노드 브로드캐스트
+ *
+ * - 발행: 방별 채널(chat:room:{roomId}:events)에 "destination\n{json}" 형태로 PUBLISH
+ * - 수신: 이 노드에 해당 방 구독자가 있을 때만 채널을 SUBSCRIBE, 받은 메시지는 로컬 simple broker 로 전달
+ * - 방별 로컬 구독 수를 세서 첫 구독자에서 채널 구독, 마지막 구독자가 나가면 채널 구독 해제
+ *   (방 단위 lock 이라 다른 방의 SUBSCRIBE / DISCONNECT 는 서로 기다리지 않음)
+ * - 유저 개인 큐: 공용 채널(chat:user:events)에 "userId\ndestination\n{json}" 발행,
+ *   모든 노드가 구독하고 이 노드에 접속한 유저일 때만 전달
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "chat.broadcast.relay", havingValue = "redis")
+public class RedisRelayChatBroadcaster implements ChatBroadcaster, MessageListener {
+
+    private static final byte ENVELOPE_SEPARATOR = '\n';
+    private static final String USER_DESTINATION_PREFIX = "/user/";
+    private static final String USER_CHANNEL = "chat:user:events";
+    private static final byte[] USER_CHANNEL_BYTES = USER_CHANNEL.getBytes(StandardCharsets.UTF_8);
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer chatRelayListenerContainer;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ObjectMapper objectMapper;
+    private final SimpUserRegistry simpUserRegistry;
+
+    // sessionId → (subscriptionId → roomId)
+    private final Map<String, Map<String, String>> sessionSubscriptions = new ConcurrentHashMap<>();
+    // roomId → 이 노드의 구독 수 + 채널 구독 상태
+    private final Map<String, RoomSubscription> roomSubscriptions = new ConcurrentHashMap<>();
+
+    private static String channel(String roomId) { return "chat:room:" + roomId + ":events"; }
+
+
+    @PostConstruct
+    void subscribeUserChannel() {
+        chatRelayListenerContainer.addMessageListener(this, new ChannelTopic(USER_CHANNEL));
+    }
+
+
+    @Override
+    public void broadcast(String roomId, String destination, Object payload) {
+        redisTemplate.convertAndSend(channel(roomId), destination + (char) ENVELOPE_SEPARATOR + toJson(payload));
+    }
+
+    @Override
+    public void sendToUser(String userId, String destination, Object payload) {
+        redisTemplate.convertAndSend(USER_CHANNEL,
+                userId + (char) ENVELOPE_SEPARATOR + destination + (char) ENVELOPE_SEPARATOR + toJson(payload));
+    }
+
+    /** Redis 채널 수신 → 로컬 세션으로 전달 */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        byte[] body = message.getBody();
+        int from = 0;
+        String userId = null;
+
+        if (Arrays.equals(message.getChannel(), USER_CHANNEL_BYTES)) {
+            int userSep = indexOf(body, ENVELOPE_SEPARATOR, 0);
+            if (userSep <= 0) {
+                log.warn("[WS-RELAY] invalid user envelope");
+                return;
+            }
+            userId = new String(body, 0, userSep, StandardCharsets.UTF_8);
+            // 이 노드에 접속하지 않은 유저면 버림 (대부분의 노드에서 여기서 끝남)
+            if (simpUserRegistry.getUser(userId) == null) return;
+            from = userSep + 1;
+        }
+
+        int sep = indexOf(body, ENVELOPE_SEPARATOR, from);
+        if (sep <= from) {
+            log.warn("[WS-RELAY] invalid envelope channel={}", new String(message.getChannel(), StandardCharsets.UTF_8));
+            return;
+        }
+
+        String destination = new String(body, from, sep - from, StandardCharsets.UTF_8);
+        if (userId != null) destination = USER_DESTINATION_PREFIX + userId + destination;
+        byte[] payload = Arrays.copyOfRange(body, sep + 1, body.length);
+
+        // 이미 직렬화된 JSON 이므로 converter 를 거치지 않고 그대로 전달 (/user/.. 는 UserDestinationMessageHandler 가 세션별로 풀어줌)
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        accessor.setLeaveMutable(true);
+        messagingTemplate.send(destination, MessageBuilder.createMessage(payload, accessor.getMessageHeaders()));
+    }
+
+
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        StompHeaderAccessor acc = StompHeaderAccessor.wrap(event.getMessage());
+        String roomId = ChatDestinations.roomIdOfAny(acc.getDestination());
+        if (roomId == null || acc.getSessionId() == null || acc.getSubscriptionId() == null) return;
+
+        String previous = sessionSubscriptions
+                .computeIfAbsent(acc.getSessionId(), k -> new ConcurrentHashMap<>())
+                .put(acc.getSubscriptionId(), roomId);
+        if (previous != null) release(previous);
+
+        retain(roomId);
+    }
+
+    @EventListener
+    public void onUnsubscribe(SessionUnsubscribeEvent event) {
+        StompHeaderAccessor acc = StompHeaderAccessor.wrap(event.getMessage());
+        if (acc.getSessionId() == null || acc.getSubscriptionId() == null) return;
+
+        Map<String, String> subs = sessionSubscriptions.get(acc.getSessionId());
+        if (subs == null) return;
+
+        String roomId = subs.remove(acc.getSubscriptionId());
+        if (roomId != null) release(roomId);
+        if (subs.isEmpty()) sessionSubscriptions.remove(acc.getSessionId(), subs);
+    }
+
+    /** DISCONNECT 이벤트는 중복 발행될 수 있으므로 세션 맵 제거로 멱등 처리 */
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        Map<String, String> subs = sessionSubscriptions.remove(event.getSessionId());
+        if (subs == null) return;
+
+        subs.values().forEach(this::release);
+    }
+
+    /** 이 노드에서 해당 방 채널을 구독 중인 로컬 구독 수 (없으면 0) */
+    int localSubscriptionCount(String roomId) {
+        RoomSubscription room = roomSubscriptions.get(roomId);
+        if (room == null) return 0;
+        synchronized (room) {
+            return room.removed ? 0 : room.refs;
+        }
+    }
+
+
+    private void retain(String roomId) {
+        while (true) {
+            RoomSubscription room = roomSubscriptions.computeIfAbsent(roomId, k -> new RoomSubscription());
+            synchronized (room) {
+                // 마지막 구독자가 막 해제한 객체면 새 객체로 다시 시도 (채널 해제가 끝난 뒤라 순서가 뒤집히지 않음)
+                if (room.removed) continue;
+
+                if (room.refs++ == 0) {
+                    chatRelayListenerContainer.addMessageListener(this, new ChannelTopic(channel(roomId)));
+                    log.debug("[WS-RELAY] subscribe room={}", roomId);
+                }
+                return;
+            }
+        }
+    }
+
+    private void release(String roomId) {
+        RoomSubscription room = roomSubscriptions.get(roomId);
+        if (room == null) return;
+
+        synchronized (room) {
+            if (room.removed || room.refs == 0) return;
+            if (--room.refs > 0) return;
+
+            // 채널 해제를 먼저 끝내고 맵에서 뺀다 → 다음 retain 의 add 가 항상 이 remove 뒤에 실행됨
+            chatRelayListenerContainer.removeMessageListener(this, new ChannelTopic(channel(roomId)));
+            room.removed = true;
+            roomSubscriptions.remove(roomId, room);
+            log.debug("[WS-RELAY] unsubscribe room={}", roomId);
+        }
+    }
+
+    private String toJson(Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("broadcast payload JSON 직렬화 Fail", e);
+        }
+    }
+
+    /** 방별 로컬 구독 수, 객체 자체를 lock 으로 사용 */
+    private static final class RoomSubscription {
+        private int refs;
+        private boolean removed;
+    }
+
+    private static int indexOf(byte[] bytes, byte target, int from) {
+        for (int i = from; i < bytes.length; i++) {
+            if (bytes[i] == target) return i;
+        }
+        return -1;
+    }
+}
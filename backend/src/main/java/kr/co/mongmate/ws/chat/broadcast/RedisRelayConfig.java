@@ -0,0 +1,20 @@
+package kr.co.mongmate.ws.chat.broadcast;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@Configuration
+@ConditionalOnProperty(name = "chat.broadcast.relay", havingValue = "redis")
+public class RedisRelayConfig {
+
+    /** 방 채널 구독은 RedisRelayChatBroadcaster 가 로컬 구독자 유무에 따라 동적으로 추가/해제 */
+    @Bean
+    public RedisMessageListenerContainer chatRelayListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
+    }
+}
@@ -2,12 +2,19 @@ package kr.co.mongmate.ws.chat.controller;
 
 import kr.co.mongmate.api.chat.dto.ChatMessageDto;
 import kr.co.mongmate.api.chat.service.ChatRoomAccessService;
-import kr.co.mongmate.domain.chat.service.ChatMessageService;
-import kr.co.mongmate.infra.chat.service.ChatRedisService;
+import kr.co.mongmate.domain.chat.service.ChatMessageWriteBehindBuffer;
+import kr.co.mongmate.infra.chat.store.ChatStore;
+import kr.co.mongmate.ws.chat.broadcast.ChatRoomBroadcastBatcher;
+import kr.co.mongmate.ws.chat.dto.ChatSendAck;
 import kr.co.mongmate.ws.chat.dto.ChatSendRequest;
+import kr.co.mongmate.ws.chat.metrics.ChatSendMetrics;
+import kr.co.mongmate.ws.chat.metrics.ChatSendMetrics.Stage;
+import kr.co.mongmate.ws.chat.unread.ChatUnreadNotifier;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Controller;
 
@@ -18,33 +25,101 @@ import java.security.Principal;
 @RequiredArgsConstructor
 public class ChatController {
 
+    public static final String ACK_DESTINATION = "/queue/chat.ack";
+
+    // Redis dedup 키에 그대로 들어가므로 길이 제한 (UUID 36자 기준 여유)
+    private static final int MAX_CLIENT_MSG_ID_LENGTH = 64;
+
+    private final ChatRoomBroadcastBatcher chatRoomBroadcastBatcher;
     private final SimpMessagingTemplate messagingTemplate;
-    private final ChatRedisService chatRedisService;
+    private final ChatStore chatStore;
     private final ChatRoomAccessService chatRoomAccessService;
-    private final ChatMessageService chatMessageService;
+    private final ChatMessageWriteBehindBuffer chatMessageWriteBehindBuffer;
+    private final ChatUnreadNotifier chatUnreadNotifier;
+    private final ChatSendMetrics chatSendMetrics;
 
 
     @MessageMapping("/chat.send")
-    public void handleChatMessage(ChatSendRequest req, Principal principal) {
+    public void handleChatMessage(ChatSendRequest req, Principal principal, SimpMessageHeaderAccessor headers) {
+        long start = System.nanoTime();
 
         String userId = principal.getName(); // 인증된 사용자
 
         // 인가(멤버 체크)
-        chatRoomAccessService.assertMember(req.roomId(), userId);
+        chatSendMetrics.record(Stage.AUTHORIZE, () -> chatRoomAccessService.assertMember(req.roomId(), userId));
+
+        String clientMsgId = normalizeClientMsgId(req.clientMsgId());
+
+        // seq 발급 + Redis 저장 (EVALSHA 1회, 원자적) — clientMsgId 재전송이면 기존 메시지를 돌려받음
+        ChatStore.AppendResult result = chatSendMetrics.record(Stage.APPEND,
+                () -> chatStore.appendMessage(req.roomId(), userId, req.content(), clientMsgId));
+        ChatMessageDto message = result.message();
 
-        // DB 영속화 추가 (실패 시 예외 -> STOMP ERROR)
-        chatMessageService.saveMessage(req.roomId(), userId, req.content());
+        if (result.resumeFrom() != null) {
+            // 새 메시지거나, 이전 시도가 영속화/브로드캐스트에서 실패한 재전송 → 실패한 단계부터 다시
+            deliver(message, userId, clientMsgId, result.resumeFrom());
 
-        long seq = chatRedisService.nextSeq(req.roomId());
+            // 수신자 unread 배지 (유저별로 모아서 주기 푸시)
+            chatSendMetrics.record(Stage.UNREAD, () -> chatUnreadNotifier.onMessage(message));
+        } else {
+            log.debug("[CHAT] duplicate send room={} user={} clientMsgId={} seq={}",
+                    message.roomId(), userId, clientMsgId, message.seq());
+        }
+
+        if (clientMsgId != null) {
+            chatSendMetrics.record(Stage.ACK, () -> sendAck(userId, headers.getSessionId(),
+                    new ChatSendAck(message.roomId(), clientMsgId, message.seq(), result.duplicate())));
+        }
+
+        chatSendMetrics.recordTotal(start);
+    }
 
-        ChatMessageDto message = ChatMessageDto.of(
-                req.roomId(),
-                seq,
-                userId,
-                req.content()
-        );
+    /**
+     * 영속화 + 방 브로드캐스트
+     * - 실패하면 dedup 상태에 실패 단계를 남겨서 같은 clientMsgId 재전송이 그 단계부터 다시 실행하게 한다.
+     *   (append 직후 dedup 이 기록되므로 표시가 없으면 재전송은 duplicate 로 끝나고 메시지가 영영 저장/전파되지 않음)
+     */
+    private void deliver(ChatMessageDto message, String userId, String clientMsgId, ChatStore.SendStage from) {
+        ChatStore.SendStage stage = from;
+        try {
+            if (stage == ChatStore.SendStage.PERSIST) {
+                // DB 영속화는 write-behind 큐로 (브로드캐스트 경로에서 MySQL 커밋 대기 제거)
+                chatSendMetrics.record(Stage.PERSIST, () -> chatMessageWriteBehindBuffer.submit(
+                        message.roomId(), userId, message.seq(), message.content(), message.timestamp()));
+                stage = ChatStore.SendStage.BROADCAST;
+            }
+
+            // 방 topic 전송 (붐비는 방은 짧게 모아서 배열 프레임 1개로)
+            chatSendMetrics.record(Stage.BROADCAST, () -> chatRoomBroadcastBatcher.publish(message));
+        } catch (RuntimeException e) {
+            if (clientMsgId != null) {
+                markSendFailed(message, userId, clientMsgId, stage);
+            }
+            throw e;
+        }
+    }
+
+    private void markSendFailed(ChatMessageDto message, String userId, String clientMsgId, ChatStore.SendStage stage) {
+        try {
+            chatStore.markSendFailed(message.roomId(), userId, clientMsgId, message.seq(), stage);
+        } catch (Exception e) {
+            log.warn("[CHAT] send failure mark failed room={} seq={} : {}", message.roomId(), message.seq(), e.getMessage());
+        }
+    }
+
+    /** 보낸 세션에만 ack (같은 유저의 다른 기기에는 보내지 않음) */
+    private void sendAck(String userId, String sessionId, ChatSendAck ack) {
+        SimpMessageHeaderAccessor headers = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        headers.setSessionId(sessionId);
+        headers.setLeaveMutable(true);
+        messagingTemplate.convertAndSendToUser(userId, ACK_DESTINATION, ack, headers.getMessageHeaders());
+    }
 
-        chatRedisService.saveMessage(message);
-        messagingTemplate.convertAndSend("/topic/chat.room." + message.roomId(), message);
+    private static String normalizeClientMsgId(String clientMsgId) {
+        if (clientMsgId == null || clientMsgId.isBlank()) return null;
+        if (clientMsgId.length() > MAX_CLIENT_MSG_ID_LENGTH) {
+            throw new IllegalArgumentException("clientMsgId too long");
+        }
+        return clientMsgId;
     }
 }
@@ -0,0 +1,54 @@
+package kr.co.mongmate.ws.chat.controller;
+
+import kr.co.mongmate.api.chat.dto.ChatMessageGapResponse;
+import kr.co.mongmate.api.chat.service.ChatHistoryService;
+import kr.co.mongmate.api.chat.service.ChatRoomAccessService;
+import kr.co.mongmate.ws.chat.dto.ChatGapRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Controller;
+
+import java.security.Principal;
+
+/**
+ * STOMP 재접속 gap-fill (/app/chat.gap)
+ *
+ * - 클라이언트는 방 topic 을 receipt 헤더와 함께 SUBSCRIBE 하고, RECEIPT 를 받은 뒤 lastSeq 를 보낸다.
+ *   구독이 broker 에 등록된 다음 스냅샷을 뜨므로, 그 사이에 발행된 메시지는 live 로 받고
+ *   그 이전 누락분은 여기서 받는다. (겹치는 seq 는 클라이언트가 seq 로 중복 제거)
+ * - Redis / MySQL 조회가 WebSocket I/O 스레드가 아니라 inbound executor 에서 실행된다.
+ * - 응답은 요청한 세션의 /user/queue/chat.gap 으로만 (REST afterSeq 조회와 동일한 응답)
+ */
+@Controller
+@RequiredArgsConstructor
+public class ChatGapFillController {
+
+    public static final String GAP_DESTINATION = "/queue/chat.gap";
+
+    private static final int GAP_LIMIT = 500;
+
+    private final ChatHistoryService chatHistoryService;
+    private final ChatRoomAccessService chatRoomAccessService;
+    private final SimpMessagingTemplate messagingTemplate;
+
+    @MessageMapping("/chat.gap")
+    public void handleGapFill(ChatGapRequest req, Principal principal, SimpMessageHeaderAccessor headers) {
+        if (req.roomId() == null || req.lastSeq() == null || req.lastSeq() < 0) {
+            throw new IllegalArgumentException("roomId / lastSeq required");
+        }
+
+        String userId = principal.getName();
+        chatRoomAccessService.assertMember(req.roomId(), userId);
+
+        ChatMessageGapResponse gap = chatHistoryService.loadAfter(req.roomId(), req.lastSeq(), GAP_LIMIT);
+
+        // 같은 유저의 다른 세션이 아니라 이 세션에만 전달
+        SimpMessageHeaderAccessor reply = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        reply.setSessionId(headers.getSessionId());
+        reply.setLeaveMutable(true);
+        messagingTemplate.convertAndSendToUser(userId, GAP_DESTINATION, gap, reply.getMessageHeaders());
+    }
+}
@@ -0,0 +1,94 @@
+package kr.co.mongmate.ws.chat.controller;
+
+import kr.co.mongmate.api.chat.service.ChatRoomAccessService;
+import kr.co.mongmate.ws.chat.ChatDestinations;
+import kr.co.mongmate.ws.chat.broadcast.ChatBroadcaster;
+import kr.co.mongmate.ws.chat.dto.ChatTypingEvent;
+import kr.co.mongmate.ws.chat.dto.ChatTypingRequest;
+import kr.co.mongmate.ws.config.StompInboundChannelInterceptor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.stereotype.Controller;
+
+import java.security.Principal;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 입력 중 표시 (/app/chat.typing)
+ *
+ * - MySQL / Redis 메시지 저장, seq 발급을 전혀 거치지 않는 휘발성 이벤트
+ * - 1차로 세션에 모아둔 인가된 구독으로 판단 (방 topic 을 구독 중인 세션만 보낼 수 있음, UNSUBSCRIBE 하면 빠짐)
+ * - 실제로 전파할 때만 멤버십 캐시로 다시 확인 (멤버십 변경 시 캐시가 무효화되므로 방을 나간 뒤에는 거부)
+ *   → 멤버가 아니면 세션의 인가에서도 방을 제거
+ * - 방별로 interval 에 한 번만 전파, 나머지 키 입력은 세션 안에서 버림
+ *   (throttle 상태도 세션 attributes 에 두어서 공유 자료구조 경합이 없고 세션 종료 시 같이 정리됨)
+ * - typing=false 는 직전에 입력 중을 전파한 방에만 한 번 전달
+ */
+@Slf4j
+@Controller
+public class ChatTypingController {
+
+    private static final String TYPING_SESSION_KEY = "TYPING";
+
+    private final ChatBroadcaster chatBroadcaster;
+    private final ChatRoomAccessService chatRoomAccessService;
+    private final long intervalMs;
+
+    public ChatTypingController(
+            ChatBroadcaster chatBroadcaster,
+            ChatRoomAccessService chatRoomAccessService,
+            @Value("${chat.typing.interval-ms:1000}") long intervalMs
+    ) {
+        this.chatBroadcaster = chatBroadcaster;
+        this.chatRoomAccessService = chatRoomAccessService;
+        this.intervalMs = intervalMs;
+    }
+
+    @MessageMapping("/chat.typing")
+    public void handleTyping(ChatTypingRequest req, Principal principal, SimpMessageHeaderAccessor headers) {
+        String roomId = req.roomId();
+        Map<String, Object> attrs = headers.getSessionAttributes();
+        if (roomId == null || attrs == null) return;
+
+        if (!StompInboundChannelInterceptor.isAuthorized(attrs, roomId)) {
+            log.debug("[CHAT-TYPING] room not subscribed session={} room={}", headers.getSessionId(), roomId);
+            return;
+        }
+
+        Map<String, Long> lastSent = lastSentOf(attrs);
+        if (!shouldBroadcast(lastSent, roomId, req.typing(), System.currentTimeMillis())) return;
+
+        if (!chatRoomAccessService.isMember(roomId, principal.getName())) {
+            log.debug("[CHAT-TYPING] no longer a member session={} room={}", headers.getSessionId(), roomId);
+            StompInboundChannelInterceptor.forgetRoom(attrs, roomId);
+            lastSent.remove(roomId);
+            return;
+        }
+
+        chatBroadcaster.broadcast(roomId, ChatDestinations.typingTopic(roomId),
+                new ChatTypingEvent(roomId, principal.getName(), req.typing()));
+    }
+
+    /** roomId → 마지막으로 입력 중을 전파한 시각 */
+    boolean shouldBroadcast(Map<String, Long> lastSent, String roomId, boolean typing, long now) {
+        if (!typing) {
+            return lastSent.remove(roomId) != null;
+        }
+
+        boolean[] allowed = new boolean[1];
+        lastSent.compute(roomId, (k, prev) -> {
+            if (prev != null && now - prev < intervalMs) return prev;
+            allowed[0] = true;
+            return now;
+        });
+        return allowed[0];
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Long> lastSentOf(Map<String, Object> attrs) {
+        return (Map<String, Long>) attrs.computeIfAbsent(TYPING_SESSION_KEY, k -> new ConcurrentHashMap<String, Long>());
+    }
+}
@@ -0,0 +1,11 @@
+package kr.co.mongmate.ws.chat.dto;
+
+/**
+ * 재접속 gap-fill 요청 (/app/chat.gap)
+ * - 방 topic SUBSCRIBE 의 RECEIPT 를 받은 뒤에 보낸다. (구독 등록 이후의 스냅샷이어야 누락이 없음)
+ * - lastSeq: 클라이언트가 마지막으로 받은 seq
+ */
+public record ChatGapRequest(
+        String roomId,
+        Long lastSeq
+) {}
@@ -0,0 +1,12 @@
+package kr.co.mongmate.ws.chat.dto;
+
+/**
+ * 전송 ack (/user/queue/chat.ack, 보낸 세션에만)
+ * - duplicate=true 면 이미 처리된 재전송 (seq 는 최초 전송 때 발급된 값)
+ */
+public record ChatSendAck(
+        String roomId,
+        String clientMsgId,
+        long seq,
+        boolean duplicate
+) {}
@@ -1,6 +1,10 @@
 package kr.co.mongmate.ws.chat.dto;
 
+/**
+ * @param clientMsgId 클라이언트가 생성한 메시지 id (선택). 재전송 시 같은 값을 보내면 중복 저장/브로드캐스트 없이 기존 seq 로 ack
+ */
 public record ChatSendRequest(
         String roomId,
-        String content
-) {}
\ No newline at end of file
+        String content,
+        String clientMsgId
+) {}
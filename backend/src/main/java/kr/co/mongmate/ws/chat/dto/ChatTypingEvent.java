@@ -0,0 +1,11 @@
+package kr.co.mongmate.ws.chat.dto;
+
+/**
+ * 입력 중 표시 (/topic/chat.typing.{roomId})
+ * - 저장/seq 없음, 클라이언트는 일정 시간 갱신이 없으면 표시를 내린다.
+ */
+public record ChatTypingEvent(
+        String roomId,
+        String userId,
+        boolean typing
+) {}
@@ -0,0 +1,10 @@
+package kr.co.mongmate.ws.chat.dto;
+
+/**
+ * 입력 중 표시 요청 (/app/chat.typing)
+ * - typing=false 는 입력을 멈췄을 때 (입력 중 알림을 보낸 방에 대해서만 전달)
+ */
+public record ChatTypingRequest(
+        String roomId,
+        boolean typing
+) {}
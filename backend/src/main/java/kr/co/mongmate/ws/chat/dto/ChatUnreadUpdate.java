@@ -0,0 +1,12 @@
+package kr.co.mongmate.ws.chat.dto;
+
+/**
+ * unread 배지 갱신 (/user/queue/unread)
+ * - newMessages: 직전 푸시 이후 이 방에 새로 온 메시지 수
+ * - currentSeq: 방 최신 seq (클라이언트가 lastReadSeq 로 정확한 unread 재계산 가능)
+ */
+public record ChatUnreadUpdate(
+        String roomId,
+        long currentSeq,
+        int newMessages
+) {}
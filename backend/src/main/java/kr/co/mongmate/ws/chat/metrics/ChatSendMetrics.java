@@ -0,0 +1,92 @@
+package kr.co.mongmate.ws.chat.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * /app/chat.send 단계별 지연/실패 metrics
+ *
+ * - chat.send.stage{stage}          : 단계별 소요 시간 (p50/p95/p99 + histogram)
+ * - chat.send.stage.failures{stage} : 단계에서 예외가 난 횟수
+ * - chat.send                       : 핸들러 전체 소요 시간
+ * actuator /actuator/metrics/chat.send.stage?tag=stage:append 처럼 조회
+ */
+@Component
+public class ChatSendMetrics {
+
+    public enum Stage {
+        /** 방 멤버십 확인 (membership cache) */
+        AUTHORIZE,
+        /** seq 발급 + Redis stream 저장 (EVALSHA) */
+        APPEND,
+        /** write-behind 큐 적재 (큐 포화 시 동기 저장 포함) */
+        PERSIST,
+        /** 방 topic 전송 (batcher → broker / relay) */
+        BROADCAST,
+        /** unread 배지 누적 */
+        UNREAD,
+        /** 보낸 세션에 ack */
+        ACK;
+
+        String tag() {
+            return name().toLowerCase();
+        }
+    }
+
+    private static final double[] PERCENTILES = {0.5, 0.95, 0.99};
+
+    private final Map<Stage, Timer> timers = new EnumMap<>(Stage.class);
+    private final Map<Stage, Counter> failures = new EnumMap<>(Stage.class);
+    private final Timer total;
+
+    public ChatSendMetrics(MeterRegistry meterRegistry) {
+        for (Stage stage : Stage.values()) {
+            timers.put(stage, Timer.builder("chat.send.stage")
+                    .description("chat.send 단계별 소요 시간")
+                    .tag("stage", stage.tag())
+                    .publishPercentiles(PERCENTILES)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+            failures.put(stage, Counter.builder("chat.send.stage.failures")
+                    .description("chat.send 단계별 실패 수")
+                    .tag("stage", stage.tag())
+                    .register(meterRegistry));
+        }
+        this.total = Timer.builder("chat.send")
+                .description("chat.send 핸들러 전체 소요 시간")
+                .publishPercentiles(PERCENTILES)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    public <T> T record(Stage stage, Supplier<T> body) {
+        long start = System.nanoTime();
+        try {
+            return body.get();
+        } catch (RuntimeException e) {
+            failures.get(stage).increment();
+            throw e;
+        } finally {
+            timers.get(stage).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    public void record(Stage stage, Runnable body) {
+        record(stage, () -> {
+            body.run();
+            return null;
+        });
+    }
+
+    /** 핸들러 전체 (startNanos = System.nanoTime() 기준) */
+    public void recordTotal(long startNanos) {
+        total.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+}
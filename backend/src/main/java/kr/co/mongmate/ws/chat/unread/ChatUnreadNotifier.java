@@ -0,0 +1,84 @@
+package kr.co.mongmate.ws.chat.unread;
+
+import kr.co.mongmate.api.chat.dto.ChatMessageDto;
+import kr.co.mongmate.api.chat.service.ChatMembershipCache;
+import kr.co.mongmate.ws.chat.broadcast.ChatBroadcaster;
+import kr.co.mongmate.ws.chat.dto.ChatUnreadUpdate;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 실시간 unread 배지 푸시
+ *
+ * - 메시지 전송 시 수신자(발신자 제외 방 멤버)별로 (방 → 최신 seq, 증가분) 을 누적만 해두고
+ * - chat.unread.coalesce-ms 주기로 유저당 1건씩 /user/queue/unread 로 푸시
+ *   → 메시지가 몰려도 유저당 주기당 최대 1프레임
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatUnreadNotifier {
+
+    public static final String UNREAD_DESTINATION = "/queue/unread";
+
+    private final ChatMembershipCache chatMembershipCache;
+    private final ChatBroadcaster chatBroadcaster;
+
+    // userId → (roomId → 누적분). 내부 맵은 compute / remove 안에서만 건드린다.
+    private final ConcurrentHashMap<String, Map<String, ChatUnreadUpdate>> pending = new ConcurrentHashMap<>();
+
+    /** 전송된 메시지를 수신자별 pending 에 누적 */
+    public void onMessage(ChatMessageDto message) {
+        List<Long> members;
+        try {
+            members = chatMembershipCache.members(Long.valueOf(message.roomId()));
+        } catch (Exception e) {
+            log.warn("[CHAT-UNREAD] member lookup failed room={} : {}", message.roomId(), e.getMessage());
+            return;
+        }
+
+        for (Long member : members) {
+            String userId = String.valueOf(member);
+            if (userId.equals(message.userId())) continue;
+
+            pending.compute(userId, (k, rooms) -> {
+                if (rooms == null) rooms = new HashMap<>();
+                rooms.merge(message.roomId(),
+                        new ChatUnreadUpdate(message.roomId(), message.seq(), 1),
+                        ChatUnreadNotifier::merge);
+                return rooms;
+            });
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${chat.unread.coalesce-ms:500}")
+    public void flush() {
+        for (String userId : pending.keySet()) {
+            Map<String, ChatUnreadUpdate> rooms = pending.remove(userId);
+            if (rooms == null || rooms.isEmpty()) continue;
+
+            try {
+                chatBroadcaster.sendToUser(userId, UNREAD_DESTINATION, new ArrayList<>(rooms.values()));
+            } catch (Exception e) {
+                log.warn("[CHAT-UNREAD] push failed user={} : {}", userId, e.getMessage());
+            }
+        }
+    }
+
+    /** 현재 푸시 대기 중인 유저 수 */
+    public int pendingUsers() {
+        return pending.size();
+    }
+
+    private static ChatUnreadUpdate merge(ChatUnreadUpdate a, ChatUnreadUpdate b) {
+        return new ChatUnreadUpdate(a.roomId(), Math.max(a.currentSeq(), b.currentSeq()), a.newMessages() + b.newMessages());
+    }
+}
@@ -0,0 +1,39 @@
+package kr.co.mongmate.ws.config;
+
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.SubscribableChannel;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.messaging.SubProtocolWebSocketHandler;
+
+/**
+ * 세션 전송 decorator 를 overflow-policy 를 적용한 것으로 교체
+ *
+ * - 기본 구현은 TERMINATE 고정 decorator 로 감싼다. decorator factory 로 한 겹 더 감싸면
+ *   바깥(기본) decorator 가 먼저 한도에 걸리므로 여기서 직접 교체한다.
+ * - send-time / send-buffer 한도는 WebSocketConfig 의 transport 설정이 그대로 적용됨
+ */
+public class BackpressureSubProtocolWebSocketHandler extends SubProtocolWebSocketHandler {
+
+    private final OutboundBackpressure outboundBackpressure;
+
+    public BackpressureSubProtocolWebSocketHandler(
+            MessageChannel clientInboundChannel,
+            SubscribableChannel clientOutboundChannel,
+            OutboundBackpressure outboundBackpressure
+    ) {
+        super(clientInboundChannel, clientOutboundChannel);
+        this.outboundBackpressure = outboundBackpressure;
+    }
+
+    @Override
+    protected WebSocketSession decorateSession(WebSocketSession session) {
+        return outboundBackpressure.decorate(session, getSendTimeLimit(), getSendBufferSizeLimit());
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+        outboundBackpressure.remove(session.getId());
+        super.afterConnectionClosed(session, closeStatus);
+    }
+}
@@ -0,0 +1,67 @@
+package kr.co.mongmate.ws.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * clientInbound / clientOutbound 채널의 executor 대기 시간 측정
+ *
+ * - preSend(전송 스레드) 시각을 메시지 id 로 기록하고 beforeHandle(executor 스레드) 에서 차이를 기록
+ * - 메시지를 재빌드하지 않도록 헤더 대신 id → 시각 맵을 쓴다. (채널 인터셉터 목록의 마지막 쪽에 등록해야 id 가 바뀌지 않음)
+ * - executor 제출 실패 / 앞 인터셉터에서 버린 프레임은 afterSendCompletion 에서 정리
+ *
+ * metrics: chat.ws.channel.queue.wait{channel}, chat.ws.channel.queue.in-flight{channel}
+ */
+public class ChannelQueueWaitInterceptor implements ExecutorChannelInterceptor {
+
+    private final Map<UUID, Long> enqueuedAt = new ConcurrentHashMap<>();
+    private final Timer waitTimer;
+
+    public ChannelQueueWaitInterceptor(MeterRegistry meterRegistry, String channelName) {
+        this.waitTimer = Timer.builder("chat.ws.channel.queue.wait")
+                .description("채널 executor 대기 시간")
+                .tag("channel", channelName)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        Gauge.builder("chat.ws.channel.queue.in-flight", enqueuedAt, Map::size)
+                .description("executor 대기 중인 메시지 수")
+                .tag("channel", channelName)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        UUID id = message.getHeaders().getId();
+        if (id != null) enqueuedAt.put(id, System.nanoTime());
+        return message;
+    }
+
+    @Override
+    public void afterSendCompletion(Message<?> message, MessageChannel channel, boolean sent, Exception ex) {
+        if (sent && ex == null) return;
+        UUID id = message.getHeaders().getId();
+        if (id != null) enqueuedAt.remove(id);
+    }
+
+    @Override
+    public Message<?> beforeHandle(Message<?> message, MessageChannel channel, MessageHandler handler) {
+        UUID id = message.getHeaders().getId();
+        if (id == null) return message;
+
+        // 구독 핸들러가 여러 개면 첫 번째 핸들러 시점만 기록
+        Long start = enqueuedAt.remove(id);
+        if (start != null) waitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return message;
+    }
+}
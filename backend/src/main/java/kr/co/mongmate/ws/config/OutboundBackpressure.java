@@ -0,0 +1,155 @@
+package kr.co.mongmate.ws.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator.OverflowStrategy;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * WebSocket 세션 slow consumer 보호
+ *
+ * - 세션 전송은 ConcurrentWebSocketSessionDecorator 가 담당: 한 스레드가 소켓에 쓰는 동안
+ *   다른 스레드의 프레임은 세션 버퍼에 쌓고 바로 반환 (outbound 스레드가 느린 세션에 묶이지 않음)
+ * - 버퍼가 send-buffer-size-limit 을 넘으면 overflow-policy 에 따라
+ *   drop: 한도를 넘기는 새 프레임을 버리고 dropped 카운터 증가 (클라이언트는 gap-fill 로 복구)
+ *   disconnect: 세션 종료 (OverflowStrategy.TERMINATE, SESSION_NOT_RELIABLE)
+ * - drop 은 기본 DROP 전략이 버린 개수를 알려주지 않아서 버퍼에 넣기 전에 직접 판단한다.
+ *   decorator 자체 한도는 2배로 두어 동시 송신으로 살짝 넘친 경우에도 기록 없이 버려지지 않게 함
+ * - send-time-limit 동안 한 프레임도 못 보내면 정책과 무관하게 세션 종료
+ * - 세션은 BackpressureSubProtocolWebSocketHandler 가 연결/종료 시 등록/해제
+ *
+ * metrics: chat.ws.outbound.buffered (전체 세션 버퍼 bytes), chat.ws.outbound.buffered.max (가장 밀린 세션),
+ *          chat.ws.outbound.buffer.depth (프레임 적재 시점의 세션 버퍼 bytes 분포),
+ *          chat.ws.outbound.dropped (overflow 로 버린 프레임 수)
+ */
+@Slf4j
+@Component
+public class OutboundBackpressure {
+
+    private final OverflowStrategy overflowStrategy;
+    private final Map<String, ConcurrentWebSocketSessionDecorator> sessions = new ConcurrentHashMap<>();
+    private final DistributionSummary bufferDepth;
+    private final Counter droppedCounter;
+
+    public OutboundBackpressure(
+            MeterRegistry meterRegistry,
+            @Value("${chat.ws.outbound.overflow-policy:drop}") String overflowPolicy
+    ) {
+        this.overflowStrategy = overflowStrategyOf(overflowPolicy);
+
+        Gauge.builder("chat.ws.outbound.buffered", this, OutboundBackpressure::totalBufferSize)
+                .description("전체 세션 전송 대기 버퍼 크기 (bytes)")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("chat.ws.outbound.buffered.max", this, OutboundBackpressure::maxBufferSize)
+                .description("가장 많이 밀린 세션의 전송 대기 버퍼 크기 (bytes)")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        // 세션별 gauge 는 태그 카디널리티가 세션 수만큼 늘어나므로 분포로 기록
+        this.bufferDepth = DistributionSummary.builder("chat.ws.outbound.buffer.depth")
+                .description("프레임 적재 시점의 세션 전송 대기 버퍼 크기 (bytes)")
+                .baseUnit("bytes")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("chat.ws.outbound.dropped")
+                .description("전송 버퍼 초과로 버린 프레임 수")
+                .register(meterRegistry);
+    }
+
+    /** drop → DROP, disconnect → TERMINATE */
+    static OverflowStrategy overflowStrategyOf(String policy) {
+        return switch (policy.trim().toLowerCase()) {
+            case "drop" -> OverflowStrategy.DROP;
+            case "disconnect" -> OverflowStrategy.TERMINATE;
+            default -> throw new IllegalArgumentException("unknown chat.ws.outbound.overflow-policy: " + policy);
+        };
+    }
+
+    /** 세션을 전송 버퍼 decorator 로 감싸고 추적 시작 */
+    public WebSocketSession decorate(WebSocketSession session, int sendTimeLimit, int bufferSizeLimit) {
+        ConcurrentWebSocketSessionDecorator decorated = overflowStrategy == OverflowStrategy.DROP
+                ? new CountingDropSessionDecorator(session, sendTimeLimit, bufferSizeLimit)
+                : new MeasuredSessionDecorator(session, sendTimeLimit, bufferSizeLimit, overflowStrategy);
+        sessions.put(session.getId(), decorated);
+        return decorated;
+    }
+
+    public void remove(String sessionId) {
+        sessions.remove(sessionId);
+    }
+
+    /** 세션의 현재 전송 대기 버퍼 크기 (bytes) */
+    public int bufferSizeOf(String sessionId) {
+        ConcurrentWebSocketSessionDecorator session = sessions.get(sessionId);
+        return session != null ? session.getBufferSize() : 0;
+    }
+
+    private double totalBufferSize() {
+        long total = 0;
+        for (ConcurrentWebSocketSessionDecorator session : sessions.values()) {
+            total += session.getBufferSize();
+        }
+        return total;
+    }
+
+    private double maxBufferSize() {
+        int max = 0;
+        for (ConcurrentWebSocketSessionDecorator session : sessions.values()) {
+            max = Math.max(max, session.getBufferSize());
+        }
+        return max;
+    }
+
+    /** 적재 시점 버퍼 크기만 기록 */
+    private class MeasuredSessionDecorator extends ConcurrentWebSocketSessionDecorator {
+
+        MeasuredSessionDecorator(WebSocketSession delegate, int sendTimeLimit, int bufferSizeLimit,
+                                 OverflowStrategy overflowStrategy) {
+            super(delegate, sendTimeLimit, bufferSizeLimit, overflowStrategy);
+        }
+
+        @Override
+        public void sendMessage(WebSocketMessage<?> message) throws IOException {
+            bufferDepth.record(getBufferSize());
+            super.sendMessage(message);
+        }
+    }
+
+    /** 한도를 넘기는 프레임은 버퍼에 넣지 않고 버린 뒤 기록 */
+    private class CountingDropSessionDecorator extends MeasuredSessionDecorator {
+
+        private final int dropLimit;
+
+        CountingDropSessionDecorator(WebSocketSession delegate, int sendTimeLimit, int bufferSizeLimit) {
+            super(delegate, sendTimeLimit, saturatedDouble(bufferSizeLimit), OverflowStrategy.DROP);
+            this.dropLimit = bufferSizeLimit;
+        }
+
+        @Override
+        public void sendMessage(WebSocketMessage<?> message) throws IOException {
+            int buffered = getBufferSize();
+            if (buffered > 0 && buffered + message.getPayloadLength() > dropLimit) {
+                droppedCounter.increment();
+                log.debug("[WS-OUT] drop frame session={} buffered={} size={}",
+                        getId(), buffered, message.getPayloadLength());
+                return;
+            }
+            super.sendMessage(message);
+        }
+
+        private static int saturatedDouble(int value) {
+            return value > Integer.MAX_VALUE / 2 ? Integer.MAX_VALUE : value * 2;
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package kr.co.mongmate.ws.config;
+
+import kr.co.mongmate.api.chat.service.ChatRoomAccessService;
+import kr.co.mongmate.infra.security.jwt.JwtTokenProvider;
+import kr.co.mongmate.ws.chat.ChatDestinations;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+import java.security.Principal;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * STOMP inbound 인증/인가 인터셉터 (기존 Auth + RoomAuthorize 인터셉터 통합)
+ *
+ * - CONNECT: JWT 검증 → user 설정 + 세션 attributes 에 Authentication 1회 저장
+ * - SUBSCRIBE / SEND: user 복구, SUBSCRIBE 는 방 멤버십 체크
+ * - 인가된 구독은 세션 attributes(ROOMS)에 subscriptionId → roomId 로 모아둠 → 입력 중 표시 등 가벼운 프레임의 1차 판단
+ * - UNSUBSCRIBE 는 destination 이 없으므로 subscriptionId 로 찾아서 제거 (같은 방의 다른 구독이 남아 있으면 방은 유지)
+ * - 그 외 프레임(HEARTBEAT, DISCONNECT 등)은 헤더 맵 조회 1번으로 통과
+ * - 헤더는 mutable accessor 에 직접 반영하고, 불가능한 경우에만 메시지를 재빌드
+ *   (WebSocketConfig 에서 ImmutableMessageChannelInterceptor 를 마지막에 등록해야 mutable 상태로 들어온다)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StompInboundChannelInterceptor implements ChannelInterceptor {
+
+    public static final String AUTH_SESSION_KEY = "AUTH";
+    public static final String ROOMS_SESSION_KEY = "ROOMS";
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final ChatRoomAccessService chatRoomAccessService;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        SimpMessageType type = SimpMessageHeaderAccessor.getMessageType(message.getHeaders());
+        if (type == null) return message;
+
+        return switch (type) {
+            case CONNECT -> handleConnect(message);
+            case SUBSCRIBE, MESSAGE -> handleFrame(message, type);
+            case UNSUBSCRIBE -> handleUnsubscribe(message);
+            default -> message;
+        };
+    }
+
+    private Message<?> handleConnect(Message<?> message) {
+        StompHeaderAccessor acc = accessorOf(message);
+
+        String token = resolveBearer(acc.getFirstNativeHeader("Authorization"));
+        Authentication authentication = jwtTokenProvider.getAuthentication(token);
+
+        Map<String, Object> attrs = acc.getSessionAttributes();
+        if (attrs != null) {
+            attrs.put(AUTH_SESSION_KEY, authentication);
+        }
+
+        log.debug("[WS-AUTH] CONNECT session={} user={}", acc.getSessionId(), authentication.getName());
+
+        return withUser(message, acc, authentication);
+    }
+
+    private Message<?> handleFrame(Message<?> message, SimpMessageType type) {
+        Principal current = SimpMessageHeaderAccessor.getUser(message.getHeaders());
+        Authentication auth = current instanceof Authentication a ? a : null;
+
+        StompHeaderAccessor acc = null;
+        if (auth == null) {
+            // CONNECT 이후 프레임은 보통 StompSubProtocolHandler 가 user 를 채워준다. 없을 때만 세션에서 복구
+            acc = accessorOf(message);
+            Map<String, Object> attrs = acc.getSessionAttributes();
+            if (attrs != null && attrs.get(AUTH_SESSION_KEY) instanceof Authentication saved) {
+                auth = saved;
+            }
+        }
+
+        if (auth == null) {
+            throw new IllegalArgumentException("Unauthenticated");
+        }
+
+        // ✅ 방 권한 체크는 SUBSCRIBE에서만 (개인 큐는 본인 세션에만 전달되므로 제외)
+        if (type == SimpMessageType.SUBSCRIBE) {
+            String dest = SimpMessageHeaderAccessor.getDestination(message.getHeaders());
+            if (!ChatDestinations.isUserQueue(dest)) {
+                if (log.isDebugEnabled()) {
+                    log.debug("[WS-ROOM] SUBSCRIBE session={} user={} dest={}",
+                            SimpMessageHeaderAccessor.getSessionId(message.getHeaders()), auth.getName(), dest);
+                }
+                String roomId = extractRoomId(dest);
+                chatRoomAccessService.assertMember(roomId, auth.getName());
+                rememberRoom(SimpMessageHeaderAccessor.getSessionAttributes(message.getHeaders()),
+                        SimpMessageHeaderAccessor.getSubscriptionId(message.getHeaders()), roomId);
+            }
+        }
+
+        // user 가 바뀐 경우에만 헤더 반영
+        if (acc == null) return message;
+        return withUser(message, acc, auth);
+    }
+
+    private Message<?> handleUnsubscribe(Message<?> message) {
+        Map<String, String> rooms = roomSubscriptions(SimpMessageHeaderAccessor.getSessionAttributes(message.getHeaders()));
+        String subscriptionId = SimpMessageHeaderAccessor.getSubscriptionId(message.getHeaders());
+        if (rooms != null && subscriptionId != null) {
+            rooms.remove(subscriptionId);
+        }
+        return message;
+    }
+
+    /** 이 세션에 roomId 로 인가된 구독이 남아 있는지 */
+    public static boolean isAuthorized(Map<String, Object> sessionAttributes, String roomId) {
+        Map<String, String> rooms = roomSubscriptions(sessionAttributes);
+        return rooms != null && rooms.containsValue(roomId);
+    }
+
+    /** 멤버십이 사라진 방의 인가를 이 세션에서 제거 (구독 자체는 브로커에 남지만 이후 가벼운 프레임은 거부) */
+    public static void forgetRoom(Map<String, Object> sessionAttributes, String roomId) {
+        Map<String, String> rooms = roomSubscriptions(sessionAttributes);
+        if (rooms != null) {
+            rooms.values().removeIf(roomId::equals);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, String> roomSubscriptions(Map<String, Object> sessionAttributes) {
+        if (sessionAttributes != null && sessionAttributes.get(ROOMS_SESSION_KEY) instanceof Map<?, ?> rooms) {
+            return (Map<String, String>) rooms;
+        }
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void rememberRoom(Map<String, Object> sessionAttributes, String subscriptionId, String roomId) {
+        if (sessionAttributes == null) return;
+        // id 없는 SUBSCRIBE 는 브로커에서도 거부되지만, 여기서는 방 id 를 키로 대신 써서 인가만 기록
+        ((Map<String, String>) sessionAttributes.computeIfAbsent(ROOMS_SESSION_KEY, k -> new ConcurrentHashMap<String, String>()))
+                .put(subscriptionId != null ? subscriptionId : roomId, roomId);
+    }
+
+    /** 채널에서 넘어온 accessor 를 그대로 쓰고, 없으면 wrap (복사본) */
+    private StompHeaderAccessor accessorOf(Message<?> message) {
+        StompHeaderAccessor acc = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        return acc != null ? acc : StompHeaderAccessor.wrap(message);
+    }
+
+    private Message<?> withUser(Message<?> message, StompHeaderAccessor acc, Authentication auth) {
+        if (acc.isMutable()) {
+            acc.setUser(auth);
+            // 채널의 accessor 를 직접 바꾼 경우는 재빌드 불필요 (StompSubProtocolHandler 의 user 콜백도 그대로 동작)
+            if (MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class) == acc) return message;
+            return MessageBuilder.createMessage(message.getPayload(), acc.getMessageHeaders());
+        }
+
+        // immutable 이면 복사본에 반영 후 재빌드
+        StompHeaderAccessor copy = StompHeaderAccessor.wrap(message);
+        copy.setUser(auth);
+        return MessageBuilder.createMessage(message.getPayload(), copy.getMessageHeaders());
+    }
+
+    private String extractRoomId(String dest) {
+        if (dest == null) throw new IllegalArgumentException("destination missing");
+        String roomId = ChatDestinations.roomIdOfAny(dest);
+        if (roomId == null) throw new IllegalArgumentException("invalid destination: " + dest);
+        return roomId;
+    }
+
+    private String resolveBearer(String auth) {
+        if (auth == null || auth.isBlank()) {
+            throw new IllegalArgumentException("Authorization header missing");
+        }
+        if (!auth.startsWith(BEARER_PREFIX)) {
+            throw new IllegalArgumentException("Invalid Authorization header");
+        }
+        return auth.substring(BEARER_PREFIX.length());
+    }
+}
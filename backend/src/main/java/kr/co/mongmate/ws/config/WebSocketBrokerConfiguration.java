@@ -0,0 +1,30 @@
+package kr.co.mongmate.ws.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.support.AbstractSubscribableChannel;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.config.annotation.DelegatingWebSocketMessageBrokerConfiguration;
+
+/**
+ * STOMP broker 인프라 설정 (@EnableWebSocketMessageBroker 대신)
+ *
+ * - 동작은 @EnableWebSocketMessageBroker 와 같고 (WebSocketMessageBrokerConfigurer 빈을 모두 적용)
+ *   SubProtocolWebSocketHandler 만 세션 overflow-policy 를 적용한 구현으로 바꾼다.
+ */
+@Configuration(proxyBeanMethods = false)
+public class WebSocketBrokerConfiguration extends DelegatingWebSocketMessageBrokerConfiguration {
+
+    private final OutboundBackpressure outboundBackpressure;
+
+    public WebSocketBrokerConfiguration(OutboundBackpressure outboundBackpressure) {
+        this.outboundBackpressure = outboundBackpressure;
+    }
+
+    @Bean
+    @Override
+    public WebSocketHandler subProtocolWebSocketHandler(
+            AbstractSubscribableChannel clientInboundChannel, AbstractSubscribableChannel clientOutboundChannel) {
+        return new BackpressureSubProtocolWebSocketHandler(clientInboundChannel, clientOutboundChannel, outboundBackpressure);
+    }
+}
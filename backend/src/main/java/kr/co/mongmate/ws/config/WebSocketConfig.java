@@ -1,20 +1,51 @@
 package kr.co.mongmate.ws.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import kr.co.mongmate.ws.presence.PresenceHeartbeatInterceptor;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
-import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
+import org.springframework.messaging.simp.config.SimpleBrokerRegistration;
+import org.springframework.messaging.support.ImmutableMessageChannelInterceptor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 
+import java.time.Duration;
+
+// broker 인프라(@EnableWebSocketMessageBroker 역할)는 WebSocketBrokerConfiguration
 @Configuration
-@EnableWebSocketMessageBroker
 @RequiredArgsConstructor
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
-    private final StompAuthChannelInterceptor stompAuthChannelInterceptor;
-    private final StompRoomAuthorizeInterceptor stompRoomAuthorizeInterceptor;
+    private final StompInboundChannelInterceptor stompInboundChannelInterceptor;
+    private final WebSocketSessionTracker webSocketSessionTracker;
+    private final PresenceHeartbeatInterceptor presenceHeartbeatInterceptor;
+    private final MeterRegistry meterRegistry;
+
+    // STOMP heartbeat 주기 (서버 송신 / 클라이언트 수신 기대 모두), 0 이면 사용 안 함
+    // TaskScheduler 빈으로 등록하면 @Scheduled 기본 스케줄러를 대체하므로 여기서만 쓰는 전용 스케줄러로 둔다.
+    @Value("${chat.ws.heartbeat:10s}")
+    private Duration heartbeat;
+
+    private ThreadPoolTaskScheduler heartbeatScheduler;
+
+    // 한 프레임 전송이 이 시간을 넘기면 세션 종료 (SESSION_NOT_RELIABLE)
+    @Value("${chat.ws.transport.send-time-limit:10s}")
+    private Duration sendTimeLimit;
+
+    // 전송 대기 버퍼 한도 (넘치면 chat.ws.outbound.overflow-policy 에 따라 drop / 세션 종료)
+    @Value("${chat.ws.transport.send-buffer-size-limit:512KB}")
+    private DataSize sendBufferSizeLimit;
+
+    // 수신 프레임 최대 크기
+    @Value("${chat.ws.transport.message-size-limit:64KB}")
+    private DataSize messageSizeLimit;
 
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {
@@ -25,15 +56,49 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     @Override
     public void configureMessageBroker(MessageBrokerRegistry registry) {
-        registry.enableSimpleBroker("/topic");
+        SimpleBrokerRegistration broker = registry.enableSimpleBroker("/topic", "/queue");
+        if (!heartbeat.isZero()) {
+            heartbeatScheduler = new ThreadPoolTaskScheduler();
+            heartbeatScheduler.setPoolSize(1);
+            heartbeatScheduler.setThreadNamePrefix("ws-heartbeat-");
+            heartbeatScheduler.initialize();
+
+            long ms = heartbeat.toMillis();
+            broker.setHeartbeatValue(new long[]{ms, ms}) // ✅ 끊긴 클라이언트 세션 정리 + presence lastSeen 갱신
+                    .setTaskScheduler(heartbeatScheduler);
+        }
         registry.setApplicationDestinationPrefixes("/app");
     }
 
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration
+                .setSendTimeLimit((int) sendTimeLimit.toMillis())
+                .setSendBufferSizeLimit((int) sendBufferSizeLimit.toBytes())
+                .setMessageSizeLimit((int) messageSizeLimit.toBytes())
+                .addDecoratorFactory(webSocketSessionTracker); // ✅ 세션 보관 + 종료 사유 metrics
+    }
+
     @Override
     public void configureClientInboundChannel(ChannelRegistration registration) {
         registration.interceptors(
-                stompAuthChannelInterceptor,      // ✅ CONNECT에서 AUTH 저장
-                stompRoomAuthorizeInterceptor     // ✅ SUBSCRIBE/SEND에서 AUTH 복구
+                stompInboundChannelInterceptor,           // ✅ CONNECT 인증 + SUBSCRIBE/SEND 인가
+                presenceHeartbeatInterceptor,             // ✅ 세션 활동 기록 (로컬만, Redis 쓰기 없음)
+                new ChannelQueueWaitInterceptor(meterRegistry, "inbound"), // ✅ executor 대기 시간 (메시지 재빌드 이후에 둬야 함)
+                new ImmutableMessageChannelInterceptor()  // ✅ 반드시 마지막: 앞단에서 헤더를 제자리 수정할 수 있게 함
+        );
+    }
+
+    @PreDestroy
+    void shutdownHeartbeatScheduler() {
+        if (heartbeatScheduler != null) heartbeatScheduler.shutdown();
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        // 세션별 적체 한도는 세션 전송 버퍼에서 처리 (OutboundBackpressure)
+        registration.interceptors(
+                new ChannelQueueWaitInterceptor(meterRegistry, "outbound") // ✅ executor 대기 시간
         );
     }
 }
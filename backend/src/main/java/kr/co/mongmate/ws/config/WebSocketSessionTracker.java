@@ -0,0 +1,73 @@
+package kr.co.mongmate.ws.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketHandlerDecoratorFactory;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 이 노드의 WebSocket 세션 추적
+ *
+ * - 종료 사유(CloseStatus)별 카운터: chat.ws.session.closed{reason}
+ *   (slow consumer 는 OutboundBackpressure 의 decorator 가 직접 종료 → not_reliable 로 집계)
+ * - 현재 세션 수 gauge: chat.ws.sessions
+ */
+@Component
+public class WebSocketSessionTracker implements WebSocketHandlerDecoratorFactory {
+
+    private final Set<String> sessions = ConcurrentHashMap.newKeySet();
+    private final MeterRegistry meterRegistry;
+
+    public WebSocketSessionTracker(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("chat.ws.sessions", sessions, Set::size)
+                .description("현재 연결된 WebSocket 세션 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public WebSocketHandler decorate(WebSocketHandler handler) {
+        return new WebSocketHandlerDecorator(handler) {
+            @Override
+            public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+                sessions.add(session.getId());
+                super.afterConnectionEstablished(session);
+            }
+
+            @Override
+            public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+                sessions.remove(session.getId());
+                closedCounter(reasonOf(closeStatus)).increment();
+                super.afterConnectionClosed(session, closeStatus);
+            }
+        };
+    }
+
+    private Counter closedCounter(String reason) {
+        return Counter.builder("chat.ws.session.closed")
+                .description("WebSocket 세션 종료 수 (사유별)")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    /** 태그 카디널리티를 막기 위해 주요 코드만 이름으로, 나머지는 other */
+    static String reasonOf(CloseStatus status) {
+        int code = status.getCode();
+        if (code == CloseStatus.NORMAL.getCode()) return "normal";
+        if (code == CloseStatus.GOING_AWAY.getCode()) return "going_away";
+        if (code == CloseStatus.NO_CLOSE_FRAME.getCode()) return "no_close_frame";
+        if (code == CloseStatus.SESSION_NOT_RELIABLE.getCode()) return "not_reliable";
+        if (code == CloseStatus.SERVER_ERROR.getCode()) return "server_error";
+        if (code == CloseStatus.PROTOCOL_ERROR.getCode()) return "protocol_error";
+        if (code == CloseStatus.TOO_BIG_TO_PROCESS.getCode()) return "too_big";
+        return "other";
+    }
+}
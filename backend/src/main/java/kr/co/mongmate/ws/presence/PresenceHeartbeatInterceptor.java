@@ -0,0 +1,25 @@
+package kr.co.mongmate.ws.presence;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.stereotype.Component;
+
+/**
+ * inbound 프레임(HEARTBEAT 포함)을 세션 활동으로 기록
+ * - PresenceService 로컬 lastSeen 만 갱신하므로 프레임마다 Redis 쓰기는 없다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PresenceHeartbeatInterceptor implements ChannelInterceptor {
+
+    private final PresenceService presenceService;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        presenceService.touch(SimpMessageHeaderAccessor.getSessionId(message.getHeaders()));
+        return message;
+    }
+}
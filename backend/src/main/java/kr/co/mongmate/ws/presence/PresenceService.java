@@ -0,0 +1,248 @@
+package kr.co.mongmate.ws.presence;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionConnectedEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Principal;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 접속(presence) 추적
+ *
+ * - STOMP CONNECTED / DISCONNECT 이벤트로 이 노드에 접속한 유저를 로컬 샤드 맵에 보관 (유저당 세션 여러 개 가능)
+ * - heartbeat/inbound 프레임은 로컬 lastSeen 만 갱신하고 Redis 에 쓰지 않는다.
+ * - refresh-interval 마다 살아 있는 로컬 유저의 presence:{userId} 키를 샤드 단위 pipeline 으로 SET EX ttl
+ *   → Redis 쓰기는 heartbeat 수가 아니라 (접속 유저 수 / refresh 주기) 에 비례
+ * - ttl 동안 heartbeat 가 없던 유저는 refresh 에서 빠지고 키가 만료되면서 offline 처리
+ * - 마지막 세션이 끊기면 키 값이 이 노드일 때만 삭제 (다른 노드에도 접속 중이면 그 노드가 다음 refresh 에 복구)
+ * - isOnline 은 로컬 맵 먼저 (refresh 와 같은 lastSeen >= now - ttl 기준), 나머지만 MGET 한 번으로 조회
+ */
+@Slf4j
+@Component
+public class PresenceService {
+
+    private static final String KEY_PREFIX = "presence:";
+
+    /** 키 값이 이 노드 id 일 때만 삭제 */
+    private static final RedisScript<Long> RELEASE = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+              return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final Clock clock;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final byte[] nodeIdBytes = nodeId.getBytes(StandardCharsets.UTF_8);
+    private final Duration ttl;
+    private final long ttlMillis;
+
+    // userId 해시로 나눈 샤드 (refresh 를 샤드 단위 pipeline 으로 끊어서 보냄)
+    private final Map<String, LocalUser>[] shards;
+    // sessionId → 로컬 유저 (heartbeat 는 이 맵 조회 + volatile 쓰기 1번)
+    private final Map<String, LocalUser> sessions = new ConcurrentHashMap<>();
+
+    @Autowired
+    public PresenceService(
+            StringRedisTemplate redisTemplate,
+            @Value("${chat.presence.ttl:30s}") Duration ttl,
+            @Value("${chat.presence.shards:16}") int shardCount
+    ) {
+        this(redisTemplate, Clock.systemUTC(), ttl, shardCount);
+    }
+
+    @SuppressWarnings("unchecked")
+    PresenceService(StringRedisTemplate redisTemplate, Clock clock, Duration ttl, int shardCount) {
+        this.redisTemplate = redisTemplate;
+        this.clock = clock;
+        this.ttl = ttl;
+        this.ttlMillis = ttl.toMillis();
+        this.shards = new Map[Math.max(1, shardCount)];
+        for (int i = 0; i < shards.length; i++) {
+            shards[i] = new ConcurrentHashMap<>();
+        }
+    }
+
+    @EventListener
+    public void onConnected(SessionConnectedEvent event) {
+        Principal user = event.getUser();
+        String sessionId = StompHeaderAccessor.wrap(event.getMessage()).getSessionId();
+        if (user == null || sessionId == null) return;
+
+        connect(sessionId, user.getName());
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        disconnect(event.getSessionId());
+    }
+
+    void connect(String sessionId, String userId) {
+        long now = clock.millis();
+        boolean[] first = new boolean[1];
+        LocalUser local = shardOf(userId).compute(userId, (k, u) -> {
+            if (u == null) {
+                u = new LocalUser(k);
+                first[0] = true;
+            }
+            u.sessions.add(sessionId);
+            u.lastSeenMillis = now;
+            return u;
+        });
+        sessions.put(sessionId, local);
+
+        // 첫 세션은 refresh 를 기다리지 않고 바로 online
+        if (first[0]) {
+            try {
+                redisTemplate.opsForValue().set(key(userId), nodeId, ttl);
+            } catch (Exception e) {
+                log.warn("[PRESENCE] online set failed user={} : {}", userId, e.getMessage());
+            }
+        }
+    }
+
+    void disconnect(String sessionId) {
+        if (sessionId == null) return;
+        LocalUser local = sessions.remove(sessionId);
+        if (local == null) return;
+
+        String userId = local.userId;
+        LocalUser remaining = shardOf(userId).computeIfPresent(userId, (k, u) -> {
+            u.sessions.remove(sessionId);
+            return u.sessions.isEmpty() ? null : u;
+        });
+        if (remaining != null) return;
+
+        try {
+            redisTemplate.execute(RELEASE, List.of(key(userId)), nodeId);
+        } catch (Exception e) {
+            log.warn("[PRESENCE] offline release failed user={} : {}", userId, e.getMessage());
+        }
+    }
+
+    /** heartbeat 등 inbound 프레임 수신 (로컬만 갱신) */
+    public void touch(String sessionId) {
+        if (sessionId == null) return;
+        LocalUser local = sessions.get(sessionId);
+        if (local != null) {
+            local.lastSeenMillis = clock.millis();
+        }
+    }
+
+    /** 로컬에서 살아 있는 유저의 presence 키 TTL 연장 */
+    @Scheduled(fixedDelayString = "${chat.presence.refresh-interval-ms:10000}")
+    public void refresh() {
+        long aliveSince = clock.millis() - ttlMillis;
+        Expiration expiration = Expiration.from(ttl);
+
+        for (Map<String, LocalUser> shard : shards) {
+            if (shard.isEmpty()) continue;
+
+            List<byte[]> keys = new ArrayList<>(shard.size());
+            for (LocalUser u : shard.values()) {
+                if (u.lastSeenMillis >= aliveSince) {
+                    keys.add(key(u.userId).getBytes(StandardCharsets.UTF_8));
+                }
+            }
+            if (keys.isEmpty()) continue;
+
+            try {
+                redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                    for (byte[] k : keys) {
+                        connection.stringCommands().set(k, nodeIdBytes, expiration, SetOption.upsert());
+                    }
+                    return null;
+                });
+            } catch (Exception e) {
+                log.warn("[PRESENCE] refresh failed size={} : {}", keys.size(), e.getMessage());
+            }
+        }
+    }
+
+    public boolean isOnline(String userId) {
+        return !isOnline(List.of(userId)).isEmpty();
+    }
+
+    /**
+     * 주어진 유저 중 online 인 userId 집합
+     * 로컬 접속자는 ttl 안에 heartbeat 가 있었으면 Redis 조회 없이 online,
+     * 아니면 (다른 노드에 살아 있는 세션이 있을 수 있으니) Redis 로 확인
+     */
+    public Set<String> isOnline(Collection<String> userIds) {
+        long aliveSince = clock.millis() - ttlMillis;
+        Set<String> online = new HashSet<>();
+        List<String> remote = new ArrayList<>();
+        for (String userId : userIds) {
+            LocalUser local = shardOf(userId).get(userId);
+            if (local != null && local.lastSeenMillis >= aliveSince) {
+                online.add(userId);
+            } else {
+                remote.add(userId);
+            }
+        }
+        if (remote.isEmpty()) return online;
+
+        List<String> keys = new ArrayList<>(remote.size());
+        for (String userId : remote) {
+            keys.add(key(userId));
+        }
+
+        List<String> values = redisTemplate.opsForValue().multiGet(keys);
+        if (values == null) return online;
+        for (int i = 0; i < remote.size(); i++) {
+            if (values.get(i) != null) online.add(remote.get(i));
+        }
+        return online;
+    }
+
+    /** 이 노드에 접속 중인 유저 수 */
+    public int localUserCount() {
+        int count = 0;
+        for (Map<String, LocalUser> shard : shards) {
+            count += shard.size();
+        }
+        return count;
+    }
+
+    private Map<String, LocalUser> shardOf(String userId) {
+        return shards[Math.floorMod(userId.hashCode(), shards.length)];
+    }
+
+    private static String key(String userId) {
+        return KEY_PREFIX + userId;
+    }
+
+    private static final class LocalUser {
+        private final String userId;
+        private final Set<String> sessions = ConcurrentHashMap.newKeySet();
+        private volatile long lastSeenMillis;
+
+        private LocalUser(String userId) {
+            this.userId = userId;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package kr.co.mongmate.api.chat.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+import kr.co.mongmate.api.chat.dto.ChatMessageDto;
+import kr.co.mongmate.api.chat.dto.ChatMessageGapResponse;
+import kr.co.mongmate.domain.chat.entity.ChatMessage;
+import kr.co.mongmate.domain.chat.repository.ChatMessageArchiveJdbcRepository;
+import kr.co.mongmate.domain.chat.repository.ChatMessageArchiveJdbcRepository.ArchivedChatMessage;
+import kr.co.mongmate.domain.chat.repository.ChatMessageRepository;
+import kr.co.mongmate.domain.user.entity.User;
+import kr.co.mongmate.infra.chat.store.ChatStore;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+
+class ChatHistoryServiceTest {
+
+    private final ChatStore chatStore = mock(ChatStore.class);
+    private final ChatMessageRepository messageRepository = mock(ChatMessageRepository.class);
+    private final ChatMessageArchiveJdbcRepository archiveRepository = mock(ChatMessageArchiveJdbcRepository.class);
+    private final ChatHistoryService service =
+            new ChatHistoryService(chatStore, messageRepository, archiveRepository, Duration.ofDays(7));
+
+    @Test
+    void loadAfter_should_fill_archived_range_before_hot_rows() {
+        when(chatStore.getCurrentSeq("1")).thenReturn(10L);
+        when(chatStore.loadAfter("1", 0, 50)).thenReturn(cached(9, 10));
+        when(messageRepository.findSeqRangeSince(eq(1L), eq(0L), eq(9L), any(LocalDateTime.class), any()))
+                .thenReturn(List.of());
+        List<ChatMessage> hot = hot(6, 7, 8);
+        when(messageRepository.findSeqRange(1L, 0L, 9L, PageRequest.of(0, 50))).thenReturn(hot);
+        when(archiveRepository.findSeqRange(1L, 0L, 6L, 50)).thenReturn(archived(1, 2, 3, 4, 5));
+
+        ChatMessageGapResponse response = service.loadAfter("1", 0, 50);
+
+        assertThat(response.messages()).extracting(ChatMessageDto::seq)
+                .containsExactlyElementsOf(LongStream.rangeClosed(1, 10).boxed().toList());
+        assertThat(response.complete()).isTrue();
+    }
+
+    @Test
+    void loadBefore_should_continue_from_hot_rows_into_archive() {
+        when(chatStore.loadBefore("1", 11, 5)).thenReturn(cached(10));
+        List<ChatMessage> hot = hot(9, 8);
+        when(messageRepository.findLatestBefore(1L, 10L, PageRequest.of(0, 4))).thenReturn(hot);
+        when(archiveRepository.findLatestBefore(1L, 8L, 2)).thenReturn(archived(6, 7));
+
+        List<ChatMessageDto> messages = service.loadBefore("1", 11, 5);
+
+        assertThat(messages).extracting(ChatMessageDto::seq).containsExactly(6L, 7L, 8L, 9L, 10L);
+    }
+
+    @Test
+    void loadBefore_should_not_touch_mysql_when_cache_is_enough() {
+        when(chatStore.loadBefore("1", 11, 2)).thenReturn(cached(9, 10));
+
+        assertThat(service.loadBefore("1", 11, 2)).extracting(ChatMessageDto::seq).containsExactly(9L, 10L);
+        verify(messageRepository, never()).findLatestBefore(anyLong(), anyLong(), any());
+        verify(archiveRepository, never()).findLatestBefore(anyLong(), anyLong(), anyInt());
+    }
+
+    private static List<ChatMessageDto> cached(long... seqs) {
+        return LongStream.of(seqs).mapToObj(s -> new ChatMessageDto("1", s, "2", "m" + s, s)).toList();
+    }
+
+    private static List<ArchivedChatMessage> archived(long... seqs) {
+        return LongStream.of(seqs).mapToObj(s -> new ArchivedChatMessage(s, 2L, "m" + s, s)).toList();
+    }
+
+    private static List<ChatMessage> hot(long... seqs) {
+        User sender = mock(User.class);
+        when(sender.getId()).thenReturn(2L);
+        return LongStream.of(seqs).mapToObj(s -> {
+            ChatMessage m = mock(ChatMessage.class);
+            when(m.getSeq()).thenReturn(s);
+            when(m.getSender()).thenReturn(sender);
+            when(m.getContent()).thenReturn("m" + s);
+            when(m.getSentAt()).thenReturn(LocalDateTime.of(2026, 1, 1, 0, 0));
+            return m;
+        }).toList();
+    }
+}
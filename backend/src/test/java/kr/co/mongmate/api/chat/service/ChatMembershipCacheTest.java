@@ -0,0 +1,43 @@
+package kr.co.mongmate.api.chat.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import kr.co.mongmate.domain.chat.event.ChatMembershipChangedEvent;
+import kr.co.mongmate.domain.chat.repository.ChatReadStateRepository;
+import org.junit.jupiter.api.Test;
+
+class ChatMembershipCacheTest {
+
+    private final ChatReadStateRepository repository = mock(ChatReadStateRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ChatMembershipCache cache = new ChatMembershipCache(
+            repository, meterRegistry, 100, Duration.ofMinutes(10), Duration.ofSeconds(30));
+
+    @Test
+    void isMember_should_query_db_once_per_key() {
+        when(repository.existsByIdThreadIdAndIdUserId(1L, 2L)).thenReturn(true);
+
+        assertThat(cache.isMember(1L, 2L)).isTrue();
+        assertThat(cache.isMember(1L, 2L)).isTrue();
+
+        verify(repository, times(1)).existsByIdThreadIdAndIdUserId(1L, 2L);
+        assertThat(meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void membership_event_should_invalidate_negative_entry() {
+        when(repository.existsByIdThreadIdAndIdUserId(1L, 3L)).thenReturn(false, true);
+
+        assertThat(cache.isMember(1L, 3L)).isFalse();
+        cache.onMembershipChanged(new ChatMembershipChangedEvent(1L, 3L));
+
+        assertThat(cache.isMember(1L, 3L)).isTrue();
+        verify(repository, times(2)).existsByIdThreadIdAndIdUserId(1L, 3L);
+    }
+}
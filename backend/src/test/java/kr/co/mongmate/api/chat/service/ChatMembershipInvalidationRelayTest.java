@@ -0,0 +1,48 @@
+package kr.co.mongmate.api.chat.service;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.nio.charset.StandardCharsets;
+import kr.co.mongmate.domain.chat.event.ChatMembershipChangedEvent;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+class ChatMembershipInvalidationRelayTest {
+
+    private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+    private final ChatMembershipCache cache = mock(ChatMembershipCache.class);
+    private final ChatMembershipInvalidationRelay relay = new ChatMembershipInvalidationRelay(
+            redisTemplate, mock(RedisMessageListenerContainer.class), cache);
+
+    @Test
+    void onMembershipChanged_should_publish_thread_and_user() {
+        relay.onMembershipChanged(new ChatMembershipChangedEvent(1L, 2L));
+
+        verify(redisTemplate).convertAndSend(ChatMembershipInvalidationRelay.CHANNEL, "1:2");
+    }
+
+    @Test
+    void onMessage_should_invalidate_local_cache() {
+        relay.onMessage(message("1:2"), null);
+
+        verify(cache).invalidate(1L, 2L);
+    }
+
+    @Test
+    void onMessage_should_ignore_malformed_payload() {
+        relay.onMessage(message("garbage"), null);
+        relay.onMessage(message("1:x"), null);
+
+        verifyNoInteractions(cache);
+    }
+
+    private static DefaultMessage message(String body) {
+        return new DefaultMessage(
+                ChatMembershipInvalidationRelay.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,49 @@
+package kr.co.mongmate.api.chat.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Set;
+import kr.co.mongmate.api.chat.dto.ChatMessageDto;
+import kr.co.mongmate.api.chat.dto.ChatMessageSearchResponse;
+import kr.co.mongmate.domain.chat.repository.ChatMessageArchiveJdbcRepository;
+import kr.co.mongmate.domain.chat.repository.ChatMessageArchiveJdbcRepository.ArchivedChatMessage;
+import kr.co.mongmate.domain.chat.repository.ChatMessageNgramJdbcRepository;
+import kr.co.mongmate.domain.chat.repository.ChatMessageRepository;
+import org.junit.jupiter.api.Test;
+
+class ChatSearchServiceTest {
+
+    private final ChatMessageNgramJdbcRepository ngramRepository = mock(ChatMessageNgramJdbcRepository.class);
+    private final ChatMessageRepository messageRepository = mock(ChatMessageRepository.class);
+    private final ChatMessageArchiveJdbcRepository archiveRepository = mock(ChatMessageArchiveJdbcRepository.class);
+    private final ChatSearchService service = new ChatSearchService(ngramRepository, messageRepository, archiveRepository);
+
+    @Test
+    void one_char_query_should_return_empty_result() {
+        ChatMessageSearchResponse response = service.search("1", "가", null, null, 30);
+
+        assertThat(response.messages()).isEmpty();
+        assertThat(response.nextBeforeSeq()).isNull();
+        verifyNoInteractions(ngramRepository, messageRepository, archiveRepository);
+    }
+
+    @Test
+    void seqs_missing_from_hot_table_should_be_read_from_archive() {
+        when(ngramRepository.findSeqsContainingAll(eq(1L), anyCollection(), any(), any(), eq(30))).thenReturn(List.of(5L));
+        when(messageRepository.findBySeqIn(eq(1L), anyCollection())).thenReturn(List.of());
+        when(archiveRepository.findBySeqIn(1L, Set.of(5L)))
+                .thenReturn(List.of(new ArchivedChatMessage(5L, 2L, "산책 갈래요", 1000L)));
+
+        ChatMessageSearchResponse response = service.search("1", "산책", null, null, 30);
+
+        assertThat(response.messages()).extracting(ChatMessageDto::seq).containsExactly(5L);
+        assertThat(response.messages().get(0).timestamp()).isEqualTo(1000L);
+    }
+}
@@ -0,0 +1,101 @@
+package kr.co.mongmate.domain.chat.entity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+import java.time.LocalDateTime;
+import kr.co.mongmate.domain.user.entity.User;
+import kr.co.mongmate.domain.walkpost.entity.WalkPost;
+import org.junit.jupiter.api.Test;
+
+class ChatReadStateTest {
+
+    private final User author = user(1L);
+    private final User participant = user(2L);
+    private final ChatThread thread = ChatThread.create(mock(WalkPost.class), author, participant);
+
+    @Test
+    void hasRead_should_compare_against_watermark() {
+        ChatReadState state = readState(message(5L));
+
+        assertThat(state.getLastReadSeq()).isEqualTo(5L);
+        assertThat(state.hasRead(4L)).isTrue();
+        assertThat(state.hasRead(5L)).isTrue();
+        assertThat(state.hasRead(6L)).isFalse();
+        assertThat(state.hasRead(message(3L))).isTrue();
+        assertThat(state.hasRead(message(7L))).isFalse();
+    }
+
+    @Test
+    void watermark_should_never_move_backwards() {
+        ChatReadState state = readState(message(5L));
+
+        state.updateLastReadMessage(message(3L));
+        assertThat(state.getLastReadSeq()).isEqualTo(5L);
+        assertThat(state.hasRead(5L)).isTrue();
+
+        state.updateLastReadMessage(message(8L));
+        assertThat(state.getLastReadSeq()).isEqualTo(8L);
+    }
+
+    @Test
+    void message_without_seq_should_not_change_watermark_or_count_as_read() {
+        ChatReadState state = readState(message(5L));
+
+        state.updateLastReadMessage(message(null));
+
+        assertThat(state.getLastReadSeq()).isEqualTo(5L);
+        assertThat(state.hasRead(message(null))).isFalse();
+    }
+
+    @Test
+    void legacy_row_without_seq_should_read_nothing_until_first_advance() {
+        // seq 도입 전 row: last_read_message_id 만 있고 last_read_seq 는 NULL
+        ChatReadState state = readState(message(null));
+
+        assertThat(state.getLastReadSeq()).isNull();
+        assertThat(state.hasRead(1L)).isFalse();
+        assertThat(state.hasRead(message(1L))).isFalse();
+
+        state.updateLastReadMessage(message(2L));
+        assertThat(state.getLastReadSeq()).isEqualTo(2L);
+        assertThat(state.hasRead(1L)).isTrue();
+    }
+
+    @Test
+    void message_from_other_thread_should_be_rejected() {
+        ChatReadState state = readState(message(5L));
+        ChatThread other = ChatThread.create(mock(WalkPost.class), author, participant);
+        ChatMessage foreign = ChatMessage.builder().chatThread(other).sender(author).seq(9L).content("x").build();
+
+        assertThatThrownBy(() -> state.updateLastReadMessage(foreign))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(state.getLastReadSeq()).isEqualTo(5L);
+    }
+
+    private ChatReadState readState(ChatMessage lastRead) {
+        return ChatReadState.builder()
+                .chatThread(thread)
+                .user(participant)
+                .lastReadMessage(lastRead)
+                .build();
+    }
+
+    private ChatMessage message(Long seq) {
+        return ChatMessage.builder()
+                .chatThread(thread)
+                .sender(author)
+                .seq(seq)
+                .content("m" + seq)
+                .build();
+    }
+
+    private static User user(Long id) {
+        return User.builder()
+                .id(id)
+                .phoneNumber("010-0000-000" + id)
+                .termsAgreedAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,72 @@
+package kr.co.mongmate.domain.chat.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+class ChatMessageNgramJdbcRepositoryTest {
+
+    private final RecordingJdbcTemplate jdbcTemplate = new RecordingJdbcTemplate(Map.of("안녕", 5000L, "녕하", 3L, "하세", 40L));
+    private final ChatMessageNgramJdbcRepository repository = new ChatMessageNgramJdbcRepository(jdbcTemplate);
+
+    @Test
+    void should_drive_from_rarest_gram_with_keyset_and_limit() {
+        repository.findSeqsContainingAll(1L, new LinkedHashSet<>(List.of("안녕", "녕하", "하세")), 100L, null, 30);
+
+        assertThat(jdbcTemplate.sql).doesNotContain("GROUP BY").contains("n0.seq < ?").endsWith("ORDER BY n0.seq DESC LIMIT ?");
+        assertThat(jdbcTemplate.sql.split("EXISTS", -1)).hasSize(3);
+        // thread, 드라이빙 gram, beforeSeq, 나머지 gram 들, limit
+        assertThat(jdbcTemplate.args).containsExactly(1L, "녕하", 100L, "안녕", "하세", 30);
+    }
+
+    @Test
+    void single_gram_should_skip_probe() {
+        repository.findSeqsContainingAll(1L, List.of("안녕"), null, 7L, 10);
+
+        assertThat(jdbcTemplate.probes).isZero();
+        assertThat(jdbcTemplate.sql).doesNotContain("EXISTS").contains("n0.sender_user_id = ?");
+        assertThat(jdbcTemplate.args).containsExactly(1L, "안녕", 7L, 10);
+    }
+
+    @Test
+    void missing_gram_should_stop_probing() {
+        RecordingJdbcTemplate jdbc = new RecordingJdbcTemplate(Map.of("안녕", 5000L));
+        new ChatMessageNgramJdbcRepository(jdbc)
+                .findSeqsContainingAll(1L, new LinkedHashSet<>(List.of("안녕", "없음", "하세")), null, null, 10);
+
+        assertThat(jdbc.probes).isEqualTo(2);
+        assertThat(jdbc.args.get(1)).isEqualTo("없음");
+    }
+
+    /** gram 별 posting 수를 돌려주고 마지막 검색 SQL 을 기록 */
+    private static class RecordingJdbcTemplate extends JdbcTemplate {
+        private final Map<String, Long> postings;
+        int probes;
+        String sql;
+        List<Object> args;
+
+        RecordingJdbcTemplate(Map<String, Long> postings) {
+            this.postings = postings;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T queryForObject(String sql, Class<T> requiredType, Object... args) {
+            probes++;
+            return (T) postings.getOrDefault((String) args[1], 0L);
+        }
+
+        @Override
+        public <T> List<T> queryForList(String sql, Class<T> elementType, Object... args) {
+            this.sql = sql;
+            this.args = new ArrayList<>(Arrays.asList(args));
+            return List.of();
+        }
+    }
+}
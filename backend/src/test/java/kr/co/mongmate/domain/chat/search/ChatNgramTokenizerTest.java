@@ -0,0 +1,31 @@
+package kr.co.mongmate.domain.chat.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class ChatNgramTokenizerTest {
+
+    @Test
+    void bigrams_should_split_hangul_and_break_on_whitespace() {
+        assertThat(ChatNgramTokenizer.bigrams("안녕 하세요!"))
+                .containsExactly("안녕", "하세", "세요");
+    }
+
+    @Test
+    void bigrams_should_normalize_case_and_width_and_dedupe() {
+        assertThat(ChatNgramTokenizer.bigrams("ＡＢab"))
+                .containsExactly("ab", "ba");
+    }
+
+    @Test
+    void single_character_terms_should_have_no_bigram() {
+        assertThat(ChatNgramTokenizer.bigrams("a 가 🐶")).isEmpty();
+    }
+
+    @Test
+    void terms_should_return_letter_digit_runs() {
+        assertThat(ChatNgramTokenizer.terms("산책 3시, OK?"))
+                .containsExactly("산책", "3시", "ok");
+    }
+}
@@ -0,0 +1,98 @@
+package kr.co.mongmate.domain.chat.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+import kr.co.mongmate.domain.chat.repository.ChatMessagePartitionJdbcRepository;
+import kr.co.mongmate.domain.chat.repository.ChatMessagePartitionJdbcRepository.MessagePartition;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+class ChatMessagePartitionMaintainerTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2026-10-18T03:10:00Z"), ZoneOffset.UTC);
+
+    private final ChatMessagePartitionJdbcRepository repository = mock(ChatMessagePartitionJdbcRepository.class);
+
+    @Test
+    void monthsToAdd_should_fill_up_to_months_ahead_after_last_bounded_partition() {
+        List<MessagePartition> partitions = List.of(
+                new MessagePartition("p_old", LocalDate.of(2026, 10, 1)),
+                new MessagePartition("p202610", LocalDate.of(2026, 11, 1)),
+                new MessagePartition("pmax", null)
+        );
+
+        List<LocalDate> months = ChatMessagePartitionMaintainer.monthsToAdd(partitions, LocalDate.of(2026, 10, 1), 2);
+
+        assertThat(months).containsExactly(LocalDate.of(2026, 11, 1), LocalDate.of(2026, 12, 1));
+    }
+
+    @Test
+    void partitionsToArchive_should_pick_only_partitions_entirely_before_cutoff() {
+        List<MessagePartition> partitions = List.of(
+                new MessagePartition("p_old", LocalDate.of(2026, 3, 1)),
+                new MessagePartition("p202603", LocalDate.of(2026, 4, 1)),
+                new MessagePartition("p202604", LocalDate.of(2026, 5, 1)),
+                new MessagePartition("pmax", null)
+        );
+
+        assertThat(ChatMessagePartitionMaintainer.partitionsToArchive(partitions, LocalDate.of(2026, 4, 1)))
+                .containsExactly("p_old", "p202603");
+    }
+
+    @Test
+    void maintain_should_copy_before_drop_and_keep_partition_when_copy_fails() {
+        when(repository.findPartitions()).thenReturn(List.of(
+                new MessagePartition("p202603", LocalDate.of(2026, 4, 1)),
+                new MessagePartition("p202604", LocalDate.of(2026, 5, 1)),
+                new MessagePartition("p202610", LocalDate.of(2026, 11, 1)),
+                new MessagePartition("pmax", null)
+        ));
+        doThrow(new RuntimeException("lock wait timeout")).when(repository).copyToArchive("p202604");
+
+        new ChatMessagePartitionMaintainer(repository, CLOCK, true, 0, 5).maintain();
+
+        InOrder order = inOrder(repository);
+        order.verify(repository).copyToArchive("p202603");
+        order.verify(repository).dropPartition("p202603");
+        verify(repository, never()).dropPartition("p202604");
+        verify(repository, never()).addMonthPartition(any());
+    }
+
+    @Test
+    void maintain_should_keep_partition_when_archive_count_does_not_match() {
+        when(repository.findPartitions()).thenReturn(List.of(
+                new MessagePartition("p202603", LocalDate.of(2026, 4, 1)),
+                new MessagePartition("p202604", LocalDate.of(2026, 5, 1)),
+                new MessagePartition("p202610", LocalDate.of(2026, 11, 1)),
+                new MessagePartition("pmax", null)
+        ));
+        when(repository.countPartition("p202603")).thenReturn(10L);
+        when(repository.countArchived("p202603")).thenReturn(9L);
+
+        new ChatMessagePartitionMaintainer(repository, CLOCK, true, 0, 5).maintain();
+
+        verify(repository, never()).dropPartition(anyString());
+        verify(repository, never()).copyToArchive("p202604");
+    }
+
+    @Test
+    void maintain_should_do_nothing_when_disabled() {
+        new ChatMessagePartitionMaintainer(repository, CLOCK, false, 3, 6).maintain();
+
+        verify(repository, never()).findPartitions();
+        verify(repository, never()).dropPartition(anyString());
+    }
+}
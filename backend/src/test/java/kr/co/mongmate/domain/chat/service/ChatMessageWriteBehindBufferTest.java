@@ -0,0 +1,128 @@
+package kr.co.mongmate.domain.chat.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import kr.co.mongmate.domain.chat.repository.ChatMessageJdbcRepository;
+import kr.co.mongmate.domain.chat.repository.ChatMessageNgramJdbcRepository;
+import kr.co.mongmate.domain.chat.repository.ChatThreadJdbcRepository;
+import kr.co.mongmate.domain.chat.repository.PendingChatMessage;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+
+class ChatMessageWriteBehindBufferTest {
+
+    private final List<List<PendingChatMessage>> batches = new CopyOnWriteArrayList<>();
+    // 남은 일시 오류 횟수 / 제약 위반으로 거부할 seq
+    private final AtomicInteger transientFailures = new AtomicInteger();
+    private final Set<Long> rejectedSeqs = ConcurrentHashMap.newKeySet();
+
+    private final ChatMessageJdbcRepository jdbcRepository = new ChatMessageJdbcRepository(null) {
+        @Override
+        public void batchInsert(List<PendingChatMessage> messages) {
+            if (transientFailures.getAndUpdate(n -> Math.max(0, n - 1)) > 0) {
+                throw new CannotGetJdbcConnectionException("connection refused");
+            }
+            if (messages.stream().anyMatch(m -> rejectedSeqs.contains(m.seq()))) {
+                throw new DataIntegrityViolationException("fk_chat_message_thread");
+            }
+            batches.add(List.copyOf(messages));
+        }
+    };
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final ChatThreadJdbcRepository chatThreadJdbcRepository = mock(ChatThreadJdbcRepository.class);
+    private final ChatMessageNgramJdbcRepository chatMessageNgramJdbcRepository = mock(ChatMessageNgramJdbcRepository.class);
+    private final ChatMessageService chatMessageService = mock(ChatMessageService.class);
+
+    @Test
+    void submit_should_flush_messages_in_batches() throws Exception {
+        ChatMessageWriteBehindBuffer buffer = newBuffer(true, 100, 10, 20);
+        buffer.start();
+
+        for (int i = 0; i < 25; i++) {
+            buffer.submit("1", "2", i + 1, "m" + i, System.currentTimeMillis());
+        }
+        buffer.shutdown();
+
+        assertThat(batches).allSatisfy(b -> assertThat(b).hasSizeLessThanOrEqualTo(10));
+        assertThat(batches.stream().mapToInt(List::size).sum()).isEqualTo(25);
+        verify(chatMessageService, never()).saveMessage(any(PendingChatMessage.class));
+        verify(chatThreadJdbcRepository, times(batches.size())).updateLastMessages(anyList());
+    }
+
+    @Test
+    void submit_should_save_inline_when_queue_is_full() {
+        // capacity 1 + 긴 flush 간격: flusher 가 첫 메시지를 들고 대기하는 동안 큐가 바로 포화된다.
+        ChatMessageWriteBehindBuffer buffer = newBuffer(true, 1, 1000, 60_000);
+        buffer.start();
+
+        for (int i = 0; i < 5; i++) {
+            buffer.submit("1", "2", i + 1, "m" + i, System.currentTimeMillis());
+        }
+
+        verify(chatMessageService, timeout(1000).atLeastOnce()).saveMessage(any(PendingChatMessage.class));
+    }
+
+    @Test
+    void submit_should_save_synchronously_when_disabled() {
+        ChatMessageWriteBehindBuffer buffer = newBuffer(false, 100, 10, 20);
+        buffer.start();
+
+        buffer.submit("1", "2", 1, "hello", System.currentTimeMillis());
+
+        verify(chatMessageService).saveMessage(any(PendingChatMessage.class));
+        assertThat(batches).isEmpty();
+    }
+
+    @Test
+    void transient_failure_should_be_retried_instead_of_dropping_messages() throws Exception {
+        transientFailures.set(2);
+        ChatMessageWriteBehindBuffer buffer = newBuffer(true, 100, 10, 20);
+        buffer.start();
+
+        for (int i = 0; i < 5; i++) {
+            buffer.submit("1", "2", i + 1, "m" + i, System.currentTimeMillis());
+        }
+        buffer.shutdown();
+
+        assertThat(batches.stream().mapToInt(List::size).sum()).isEqualTo(5);
+        assertThat(meterRegistry.get("chat.persistence.write-behind.dropped").counter().count()).isZero();
+    }
+
+    @Test
+    void constraint_violation_should_drop_only_offending_row() throws Exception {
+        rejectedSeqs.add(3L);
+        ChatMessageWriteBehindBuffer buffer = newBuffer(true, 100, 10, 20);
+        buffer.start();
+
+        for (int i = 0; i < 5; i++) {
+            buffer.submit("1", "2", i + 1, "m" + i, System.currentTimeMillis());
+        }
+        buffer.shutdown();
+
+        assertThat(batches).flatExtracting(b -> b).extracting(PendingChatMessage::seq)
+                .containsExactlyInAnyOrder(1L, 2L, 4L, 5L);
+        assertThat(meterRegistry.get("chat.persistence.write-behind.dropped").counter().count()).isEqualTo(1.0);
+    }
+
+    private ChatMessageWriteBehindBuffer newBuffer(boolean enabled, int capacity, int batchSize, long flushIntervalMs) {
+        return new ChatMessageWriteBehindBuffer(
+                jdbcRepository, chatThreadJdbcRepository, chatMessageNgramJdbcRepository, chatMessageService,
+                meterRegistry, enabled, capacity, batchSize, flushIntervalMs, 0);
+    }
+}
@@ -0,0 +1,52 @@
+package kr.co.mongmate.infra.chat.codec;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import kr.co.mongmate.api.chat.dto.ChatMessageDto;
+import org.junit.jupiter.api.Test;
+
+class ChatMessageCodecsTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ChatMessageDto message = new ChatMessageDto("7", 42L, "15", "안녕하세요 hello 👋", 1_734_567_890_123L);
+
+    @Test
+    void binary_should_round_trip_without_room_and_seq() {
+        ChatMessageCodecs codecs = new ChatMessageCodecs(objectMapper, "binary");
+
+        byte[] encoded = codecs.encode(message);
+
+        assertThat(encoded[0]).isEqualTo(BinaryChatMessageCodec.FORMAT_ID);
+        assertThat(codecs.decode("7", 42L, encoded)).isEqualTo(message);
+    }
+
+    @Test
+    void binary_should_be_smaller_than_json() {
+        byte[] binary = new ChatMessageCodecs(objectMapper, "binary").encode(message);
+        byte[] json = new ChatMessageCodecs(objectMapper, "json").encode(message);
+
+        assertThat(binary.length).isLessThan(json.length);
+    }
+
+    @Test
+    void decode_should_read_every_format_regardless_of_write_codec() throws Exception {
+        ChatMessageCodecs binaryWriter = new ChatMessageCodecs(objectMapper, "binary");
+        ChatMessageCodecs jsonWriter = new ChatMessageCodecs(objectMapper, "json");
+        byte[] legacy = objectMapper.writeValueAsString(message).getBytes(StandardCharsets.UTF_8);
+
+        assertThat(binaryWriter.decode("7", 42L, jsonWriter.encode(message))).isEqualTo(message);
+        assertThat(jsonWriter.decode("7", 42L, binaryWriter.encode(message))).isEqualTo(message);
+        assertThat(binaryWriter.decode("7", 42L, legacy)).isEqualTo(message);
+    }
+
+    @Test
+    void varint_should_handle_boundaries() {
+        for (long v : new long[]{0, 1, 127, 128, 16_383, 16_384, Long.MAX_VALUE}) {
+            byte[] out = new byte[10];
+            int end = BinaryChatMessageCodec.writeVarint(out, 0, v);
+            assertThat(end).isEqualTo(BinaryChatMessageCodec.varintSize(v));
+        }
+    }
+}
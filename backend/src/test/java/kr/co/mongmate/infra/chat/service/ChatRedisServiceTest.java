@@ -1,14 +1,23 @@
 package kr.co.mongmate.infra.chat.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
 import kr.co.mongmate.api.chat.dto.ChatMessageDto;
+import kr.co.mongmate.domain.chat.repository.ChatReadStateJdbcRepository;
+import kr.co.mongmate.infra.chat.codec.ChatMessageCodecs;
+import kr.co.mongmate.infra.chat.store.ChatStore;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.domain.Range;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.connection.stream.MapRecord;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
@@ -19,22 +28,142 @@ class ChatRedisServiceTest {
 
     @Autowired ChatRedisService chatRedisService;
     @Autowired StringRedisTemplate redisTemplate;
+    @Autowired ChatReadStateJdbcRepository chatReadStateJdbcRepository;
 
     @Test
-    void saveMessage_should_push_to_redis_list() {
+    void appendMessage_should_add_stream_entry_with_seq_id() {
         String roomId = "test-2";
-        String key = "chat:" + roomId + ":messages";
+        String key = "chat:" + roomId + ":stream";
 
         redisTemplate.delete(key);
 
-        ChatMessageDto msg = ChatMessageDto.of(roomId, "user-2", "hello22");
-        chatRedisService.saveMessage(msg);
+        ChatMessageDto msg = chatRedisService.appendMessage(roomId, "user-2", "hello22");
 
-        String saved = redisTemplate.opsForList().index(key, 0);
+        List<MapRecord<String, Object, Object>> entries = redisTemplate.opsForStream().range(key, Range.unbounded());
 
-        assertThat(saved).isNotNull();
-        assertThat(saved).contains("user-2");
-        assertThat(saved).contains("hello22");
+        assertThat(entries).hasSize(1);
+        assertThat(entries.get(0).getId().getValue()).isEqualTo(msg.seq() + "-0");
+        assertThat(chatRedisService.loadRecent(roomId, 1)).containsExactly(msg);
+    }
+
+    @Test
+    void appendMessage_should_keep_stream_in_seq_order() {
+        String roomId = "test-3";
+        redisTemplate.delete(List.of("chat:" + roomId + ":seq", "chat:" + roomId + ":stream"));
+
+        for (int i = 0; i < 5; i++) {
+            chatRedisService.appendMessage(roomId, "user-3", "m" + i);
+        }
+
+        List<ChatMessageDto> recent = chatRedisService.loadRecent(roomId, 5);
+
+        assertThat(recent).extracting(ChatMessageDto::seq).containsExactly(1L, 2L, 3L, 4L, 5L);
+    }
+
+    @Test
+    void loadAfter_and_loadBefore_should_return_seq_ranges() {
+        String roomId = "test-4";
+        redisTemplate.delete(List.of("chat:" + roomId + ":seq", "chat:" + roomId + ":stream"));
+
+        for (int i = 0; i < 10; i++) {
+            chatRedisService.appendMessage(roomId, "user-4", "m" + i);
+        }
+
+        assertThat(chatRedisService.loadAfter(roomId, 7, 50))
+                .extracting(ChatMessageDto::seq).containsExactly(8L, 9L, 10L);
+        assertThat(chatRedisService.loadAfter(roomId, 2, 3))
+                .extracting(ChatMessageDto::seq).containsExactly(3L, 4L, 5L);
+        assertThat(chatRedisService.loadBefore(roomId, 4, 50))
+                .extracting(ChatMessageDto::seq).containsExactly(1L, 2L, 3L);
+        assertThat(chatRedisService.loadBefore(roomId, 9, 2))
+                .extracting(ChatMessageDto::seq).containsExactly(7L, 8L);
+    }
+
+    @Test
+    void markRead_should_only_move_forward_and_register_dirty_cursor() {
+        String roomId = "test-5";
+        redisTemplate.delete(List.of("chat:" + roomId + ":seq", "chat:" + roomId + ":read:user-5", "chat:read:dirty"));
+
+        for (int i = 0; i < 5; i++) {
+            chatRedisService.appendMessage(roomId, "user-5", "m" + i);
+        }
+
+        assertThat(chatRedisService.markRead(roomId, "user-5", 3)).isEqualTo(3L);
+        assertThat(chatRedisService.markRead(roomId, "user-5", 2)).isEqualTo(3L);   // 뒤로 가지 않음
+        assertThat(chatRedisService.markRead(roomId, "user-5", 99)).isEqualTo(5L);  // 최신 seq 로 제한
+        assertThat(chatRedisService.getLastReadSeq(roomId, "user-5")).isEqualTo(5L);
+
+        assertThat(chatRedisService.popDirtyReadCursors(100))
+                .containsExactly(new ChatStore.ReadCursor(roomId, "user-5", 5L));
+        assertThat(chatRedisService.popDirtyReadCursors(100)).isEmpty();
+    }
+
+    @Test
+    void lost_read_cursor_should_be_seeded_from_db() {
+        String roomId = "110";
+        redisTemplate.delete(List.of("chat:" + roomId + ":seq", "chat:" + roomId + ":read:11"));
+        when(chatReadStateJdbcRepository.findLastReadSeq(110L, 11L)).thenReturn(4L);
+
+        for (int i = 0; i < 6; i++) {
+            chatRedisService.appendMessage(roomId, "11", "m" + i);
+        }
+
+        assertThat(chatRedisService.getLastReadSeq(roomId, "11")).isEqualTo(4L);
+
+        redisTemplate.delete("chat:" + roomId + ":read:11");
+        assertThat(chatRedisService.markRead(roomId, "11", 2)).isEqualTo(4L);  // DB 값 아래로 내려가지 않음
+        assertThat(chatRedisService.markRead(roomId, "11", 5)).isEqualTo(5L);
+    }
+
+    @Test
+    void getRoomSeqStates_should_return_states_in_room_order() {
+        redisTemplate.delete(List.of("chat:test-6:seq", "chat:test-7:seq", "chat:test-7:read:user-6", "chat:test-8:seq"));
+
+        chatRedisService.appendMessage("test-6", "user-6", "a");
+        chatRedisService.appendMessage("test-7", "user-6", "b");
+        chatRedisService.appendMessage("test-7", "user-6", "c");
+        chatRedisService.markRead("test-7", "user-6", 1);
+
+        assertThat(chatRedisService.getRoomSeqStates(List.of("test-7", "test-8", "test-6"), "user-6"))
+                .containsExactly(
+                        new ChatStore.RoomSeqState("test-7", 2L, 1L),
+                        new ChatStore.RoomSeqState("test-8", 0L, 0L),
+                        new ChatStore.RoomSeqState("test-6", 1L, 0L));
+    }
+
+    @Test
+    void appendMessage_with_same_clientMsgId_should_return_original_seq() {
+        String roomId = "test-9";
+        redisTemplate.delete(List.of("chat:" + roomId + ":seq", "chat:" + roomId + ":stream",
+                "chat:" + roomId + ":dedup:user-9:c-1"));
+
+        ChatStore.AppendResult first = chatRedisService.appendMessage(roomId, "user-9", "hi", "c-1");
+        ChatStore.AppendResult retry = chatRedisService.appendMessage(roomId, "user-9", "hi", "c-1");
+
+        assertThat(first.duplicate()).isFalse();
+        assertThat(retry.duplicate()).isTrue();
+        assertThat(retry.message().seq()).isEqualTo(first.message().seq());
+        assertThat(chatRedisService.getCurrentSeq(roomId)).isEqualTo(first.message().seq());
+        assertThat(chatRedisService.loadRecent(roomId, 10)).hasSize(1);
+    }
+
+    @Test
+    void retry_of_failed_send_should_resume_with_original_message() {
+        String roomId = "test-10";
+        redisTemplate.delete(List.of("chat:" + roomId + ":seq", "chat:" + roomId + ":stream",
+                "chat:" + roomId + ":dedup:user-10:c-1"));
+
+        ChatStore.AppendResult first = chatRedisService.appendMessage(roomId, "user-10", "hi", "c-1");
+        chatRedisService.markSendFailed(roomId, "user-10", "c-1", first.message().seq(), ChatStore.SendStage.PERSIST);
+
+        ChatStore.AppendResult retry = chatRedisService.appendMessage(roomId, "user-10", "hi", "c-1");
+        ChatStore.AppendResult again = chatRedisService.appendMessage(roomId, "user-10", "hi", "c-1");
+
+        assertThat(retry.resumeFrom()).isEqualTo(ChatStore.SendStage.PERSIST);
+        assertThat(retry.message()).isEqualTo(first.message());
+        assertThat(again.duplicate()).isTrue();
+        assertThat(again.resumeFrom()).isNull();
+        assertThat(redisTemplate.getExpire("chat:" + roomId + ":dedup:user-10:c-1")).isPositive();
     }
 
     @Configuration
@@ -53,7 +182,13 @@ class ChatRedisServiceTest {
 
         @Bean
         public ChatRedisService chatRedisService(StringRedisTemplate redisTemplate) {
-            return new ChatRedisService(redisTemplate);
+            return new ChatRedisService(redisTemplate, new ChatMessageCodecs(new ObjectMapper(), "binary"),
+                    chatReadStateJdbcRepository());
+        }
+
+        @Bean
+        public ChatReadStateJdbcRepository chatReadStateJdbcRepository() {
+            return mock(ChatReadStateJdbcRepository.class);
         }
     }
 }
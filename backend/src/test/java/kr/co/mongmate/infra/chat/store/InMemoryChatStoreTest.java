@@ -0,0 +1,164 @@
+package kr.co.mongmate.infra.chat.store;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import kr.co.mongmate.api.chat.dto.ChatMessageDto;
+import kr.co.mongmate.domain.chat.repository.ChatMessageJdbcRepository;
+import kr.co.mongmate.domain.chat.repository.ChatReadStateJdbcRepository;
+import org.junit.jupiter.api.Test;
+
+class InMemoryChatStoreTest {
+
+    private final ChatMessageJdbcRepository messageRepository = mock(ChatMessageJdbcRepository.class);
+    private final ChatReadStateJdbcRepository readStateRepository = mock(ChatReadStateJdbcRepository.class);
+    private final InMemoryChatStore store =
+            new InMemoryChatStore(messageRepository, readStateRepository, 4, Duration.ofMinutes(5));
+
+    @Test
+    void seq_and_read_cursor_should_continue_from_mysql_after_restart() {
+        when(messageRepository.findMaxSeq(10L)).thenReturn(41L);
+        when(readStateRepository.findLastReadSeq(10L, 7L)).thenReturn(40L);
+
+        assertThat(store.getLastReadSeq("10", "7")).isEqualTo(40L);
+        assertThat(store.appendMessage("10", "7", "hi").seq()).isEqualTo(42L);
+        assertThat(store.getCurrentSeq("10")).isEqualTo(42L);
+        // 읽음은 DB 값에서 앞으로만
+        assertThat(store.markRead("10", "7", 30)).isEqualTo(40L);
+        assertThat(store.markRead("10", "7", 42)).isEqualTo(42L);
+
+        // 방 / 커서마다 한 번만 조회
+        verify(messageRepository, times(1)).findMaxSeq(10L);
+        verify(readStateRepository, times(1)).findLastReadSeq(10L, 7L);
+    }
+
+    @Test
+    void appendMessage_should_issue_sequential_seq_per_room() {
+        store.appendMessage("1", "user-1", "a");
+        store.appendMessage("1", "user-1", "b");
+        store.appendMessage("2", "user-1", "c");
+
+        assertThat(store.getCurrentSeq("1")).isEqualTo(2L);
+        assertThat(store.getCurrentSeq("2")).isEqualTo(1L);
+        assertThat(store.getCurrentSeq("3")).isZero();
+    }
+
+    @Test
+    void load_should_skip_messages_trimmed_from_ring() {
+        for (int i = 1; i <= 6; i++) {
+            store.appendMessage("1", "user-1", "m" + i);
+        }
+
+        // capacity 4 → seq 3..6 만 남는다
+        assertThat(store.loadAfter("1", 0, 100)).extracting(ChatMessageDto::seq)
+                .containsExactly(3L, 4L, 5L, 6L);
+        assertThat(store.loadAfter("1", 4, 1)).extracting(ChatMessageDto::seq)
+                .containsExactly(5L);
+        assertThat(store.loadBefore("1", 6, 2)).extracting(ChatMessageDto::seq)
+                .containsExactly(4L, 5L);
+        assertThat(store.loadBefore("1", 3, 10)).isEmpty();
+        // 현재 seq 보다 큰 beforeSeq 는 current + 1 로 clamp
+        assertThat(store.loadBefore("1", 100, 2)).extracting(ChatMessageDto::seq)
+                .containsExactly(5L, 6L);
+        assertThat(store.loadBefore("1", Long.MAX_VALUE, 10)).extracting(ChatMessageDto::seq)
+                .containsExactly(3L, 4L, 5L, 6L);
+        assertThat(store.loadRecent("1", 3)).extracting(ChatMessageDto::content)
+                .containsExactly("m4", "m5", "m6");
+    }
+
+    @Test
+    void appendMessage_should_return_original_seq_on_retry() {
+        ChatStore.AppendResult first = store.appendMessage("1", "user-1", "hi", "c-1");
+        ChatStore.AppendResult retry = store.appendMessage("1", "user-1", "hi", "c-1");
+        ChatStore.AppendResult other = store.appendMessage("1", "user-2", "hi", "c-1");
+
+        assertThat(first.duplicate()).isFalse();
+        assertThat(retry.duplicate()).isTrue();
+        assertThat(retry.message()).isEqualTo(first.message());
+        assertThat(other.duplicate()).isFalse();
+        assertThat(store.getCurrentSeq("1")).isEqualTo(2L);
+    }
+
+    @Test
+    void retry_of_failed_send_should_resume_once_from_failed_stage() {
+        ChatStore.AppendResult first = store.appendMessage("1", "user-1", "hi", "c-1");
+        store.markSendFailed("1", "user-1", "c-1", first.message().seq(), ChatStore.SendStage.BROADCAST);
+
+        ChatStore.AppendResult retry = store.appendMessage("1", "user-1", "hi (edited)", "c-1");
+        ChatStore.AppendResult again = store.appendMessage("1", "user-1", "hi", "c-1");
+
+        assertThat(first.resumeFrom()).isEqualTo(ChatStore.SendStage.PERSIST);
+        assertThat(retry.duplicate()).isTrue();
+        assertThat(retry.resumeFrom()).isEqualTo(ChatStore.SendStage.BROADCAST);
+        assertThat(retry.message()).isEqualTo(first.message()); // 원본 시각 / 본문
+        assertThat(again.resumeFrom()).isNull();
+        assertThat(store.getCurrentSeq("1")).isEqualTo(1L);
+    }
+
+    @Test
+    void markRead_should_clamp_to_current_seq_and_never_move_backwards() {
+        store.appendMessage("1", "user-1", "a");
+        store.appendMessage("1", "user-1", "b");
+
+        assertThat(store.markRead("1", "user-2", 10)).isEqualTo(2L);
+        assertThat(store.markRead("1", "user-2", 1)).isEqualTo(2L);
+        assertThat(store.getLastReadSeq("1", "user-2")).isEqualTo(2L);
+        assertThat(store.getRoomSeqStates(List.of("1", "9"), "user-2")).containsExactly(
+                new ChatStore.RoomSeqState("1", 2L, 2L),
+                new ChatStore.RoomSeqState("9", 0L, 0L));
+    }
+
+    @Test
+    void popDirtyReadCursors_should_return_each_cursor_once_until_requeued() {
+        store.appendMessage("1", "user-1", "a");
+        store.markRead("1", "user-2", 1);
+
+        List<ChatStore.ReadCursor> popped = store.popDirtyReadCursors(100);
+        assertThat(popped).containsExactly(new ChatStore.ReadCursor("1", "user-2", 1L));
+        assertThat(store.popDirtyReadCursors(100)).isEmpty();
+
+        store.requeueDirtyReadCursors(popped);
+        assertThat(store.popDirtyReadCursors(100)).containsExactly(new ChatStore.ReadCursor("1", "user-2", 1L));
+    }
+
+    @Test
+    void loadAfter_should_never_skip_a_seq_while_appends_race() throws Exception {
+        InMemoryChatStore big = new InMemoryChatStore(messageRepository, readStateRepository, 1 << 16, Duration.ofMinutes(5));
+        int writers = 4;
+        int perWriter = 5_000;
+        long total = (long) writers * perWriter;
+
+        List<Thread> threads = new ArrayList<>();
+        for (int w = 0; w < writers; w++) {
+            Thread t = new Thread(() -> {
+                for (int i = 0; i < perWriter; i++) {
+                    big.appendMessage("1", "user-1", "m");
+                }
+            });
+            threads.add(t);
+            t.start();
+        }
+
+        // 받은 마지막 seq 다음부터 이어 읽을 때 중간 seq 가 빠지면 안 된다 (기록 전 slot 에서 멈춰야 함)
+        long lastSeen = 0;
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (lastSeen < total && System.nanoTime() < deadline) {
+            for (ChatMessageDto m : big.loadAfter("1", lastSeen, 100)) {
+                assertThat(m.seq()).isEqualTo(lastSeen + 1);
+                lastSeen = m.seq();
+            }
+        }
+        for (Thread t : threads) {
+            t.join();
+        }
+
+        assertThat(lastSeen).isEqualTo(total);
+    }
+}
@@ -0,0 +1,76 @@
+package kr.co.mongmate.infra.security.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+import javax.crypto.SecretKey;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.Authentication;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class JwtTokenProviderTest {
+
+    // jwt.secret 은 Base64 로 관리 (JwtTokenProvider.init 이 먼저 Base64 디코딩)
+    private static final String SECRET = "dGVzdC1zZWNyZXQtdGVzdC1zZWNyZXQtdGVzdC1zZWNyZXQtdGVzdC1zZWNyZXQ=";
+    private static final SecretKey KEY = Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET));
+
+    private JwtTokenProvider provider;
+
+    @BeforeEach
+    void setUp() {
+        provider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(provider, "secret", SECRET);
+        ReflectionTestUtils.setField(provider, "verifiedCacheMaxSize", 100L);
+        ReflectionTestUtils.setField(provider, "verifiedCacheMaxTtl", Duration.ofMinutes(10));
+        provider.init();
+    }
+
+    @Test
+    void getAuthentication_should_return_cached_authentication_for_same_token() {
+        String token = token("42", new Date(System.currentTimeMillis() + 60_000));
+
+        Authentication first = provider.getAuthentication(token);
+        Authentication second = provider.getAuthentication(token);
+
+        assertThat(first.getName()).isEqualTo("42");
+        assertThat(first.getAuthorities()).extracting("authority").containsExactly("ROLE_USER");
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    void expired_token_should_be_rejected() {
+        String token = token("42", new Date(System.currentTimeMillis() - 1_000));
+
+        assertThatThrownBy(() -> provider.getAuthentication(token))
+                .isInstanceOf(JwtException.class)
+                .hasMessage("Expired JWT token");
+    }
+
+    @Test
+    void tampered_token_should_not_hit_cache() {
+        String token = token("42", new Date(System.currentTimeMillis() + 60_000));
+        provider.getAuthentication(token);
+
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+        assertThatThrownBy(() -> provider.getAuthentication(tampered))
+                .isInstanceOf(JwtException.class);
+    }
+
+    private static String token(String subject, Date expiration) {
+        return Jwts.builder()
+                .setSubject(subject)
+                .claim("roles", List.of("ROLE_USER"))
+                .setExpiration(expiration)
+                .signWith(KEY)
+                .compact();
+    }
+}
@@ -0,0 +1,100 @@
+package kr.co.mongmate.ws.chat.broadcast;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import kr.co.mongmate.api.chat.dto.ChatMessageDto;
+import kr.co.mongmate.ws.chat.ChatDestinations;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+class ChatRoomBroadcastBatcherTest {
+
+    private final ChatBroadcaster chatBroadcaster = mock(ChatBroadcaster.class);
+
+    @Test
+    void low_rate_should_send_each_message_immediately() {
+        ChatRoomBroadcastBatcher batcher = new ChatRoomBroadcastBatcher(chatBroadcaster, true, 10, 20, 100);
+
+        ChatMessageDto m1 = ChatMessageDto.of("1", 1, "u", "a");
+        ChatMessageDto m2 = ChatMessageDto.of("1", 2, "u", "b");
+        batcher.publish(m1);
+        batcher.publish(m2);
+
+        verify(chatBroadcaster).broadcast("1", ChatDestinations.roomTopic("1"), m1);
+        verify(chatBroadcaster).broadcast("1", ChatDestinations.roomTopic("1"), m2);
+    }
+
+    @Test
+    void burst_over_threshold_should_be_sent_as_one_array_frame_in_seq_order() {
+        ChatRoomBroadcastBatcher batcher = new ChatRoomBroadcastBatcher(chatBroadcaster, true, 2, 30, 100);
+
+        batcher.publish(ChatMessageDto.of("1", 1, "u", "a"));
+        batcher.publish(ChatMessageDto.of("1", 2, "u", "b"));
+        batcher.publish(ChatMessageDto.of("1", 4, "u", "d"));
+        batcher.publish(ChatMessageDto.of("1", 3, "u", "c"));
+        batcher.publish(ChatMessageDto.of("1", 5, "u", "e"));
+
+        ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+        verify(chatBroadcaster, timeout(1000).times(3)).broadcast(eq("1"), eq(ChatDestinations.roomTopic("1")), captor.capture());
+
+        Object batch = captor.getAllValues().get(2);
+        assertThat(batch).isInstanceOf(List.class);
+        assertThat((List<?>) batch).extracting("seq").containsExactly(3L, 4L, 5L);
+    }
+
+    @Test
+    void max_batch_should_flush_without_waiting_for_linger() {
+        ChatRoomBroadcastBatcher batcher = new ChatRoomBroadcastBatcher(chatBroadcaster, true, 0, 60_000, 3);
+
+        for (int seq = 1; seq <= 3; seq++) {
+            batcher.publish(ChatMessageDto.of("1", seq, "u", "m" + seq));
+        }
+
+        verify(chatBroadcaster, times(1)).broadcast(eq("1"), any(), any(List.class));
+    }
+
+    @Test
+    void message_after_batch_should_not_overtake_batch_being_sent() throws Exception {
+        ChatRoomBroadcastBatcher batcher = new ChatRoomBroadcastBatcher(chatBroadcaster, true, 1, 30, 100, 50);
+        CountDownLatch batchSending = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(inv -> {
+            if (inv.getArgument(2) instanceof List) {
+                batchSending.countDown();
+                release.await(5, TimeUnit.SECONDS); // 느린 PUBLISH
+            }
+            return null;
+        }).when(chatBroadcaster).broadcast(any(), any(), any());
+
+        ChatMessageDto m1 = ChatMessageDto.of("1", 1, "u", "a");
+        ChatMessageDto m4 = ChatMessageDto.of("1", 4, "u", "d");
+        batcher.publish(m1);
+        batcher.publish(ChatMessageDto.of("1", 2, "u", "b"));
+        batcher.publish(ChatMessageDto.of("1", 3, "u", "c"));
+        assertThat(batchSending.await(1, TimeUnit.SECONDS)).isTrue();
+
+        // 묶음 전송 중에 rate window 가 바뀌어 한산해져도 바로 보내면 안 됨
+        Thread.sleep(60);
+        batcher.publish(m4);
+        verify(chatBroadcaster, after(100).never()).broadcast("1", ChatDestinations.roomTopic("1"), m4);
+
+        release.countDown();
+        ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+        verify(chatBroadcaster, timeout(1000).times(3)).broadcast(eq("1"), eq(ChatDestinations.roomTopic("1")), captor.capture());
+
+        assertThat(captor.getAllValues().get(0)).isEqualTo(m1);
+        assertThat((List<?>) captor.getAllValues().get(1)).extracting("seq").containsExactly(2L, 3L);
+        assertThat(captor.getAllValues().get(2)).isEqualTo(m4);
+    }
+}
@@ -0,0 +1,130 @@
+package kr.co.mongmate.ws.chat.broadcast;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import kr.co.mongmate.ws.chat.ChatDestinations;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.listener.Topic;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.simp.user.SimpUser;
+import org.springframework.messaging.simp.user.SimpUserRegistry;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+class RedisRelayChatBroadcasterTest {
+
+    private final RedisMessageListenerContainer container = mock(RedisMessageListenerContainer.class);
+    private final SimpMessagingTemplate messagingTemplate = mock(SimpMessagingTemplate.class);
+    private final SimpUserRegistry simpUserRegistry = mock(SimpUserRegistry.class);
+    private final RedisRelayChatBroadcaster relay = new RedisRelayChatBroadcaster(
+            mock(StringRedisTemplate.class), container, messagingTemplate, new ObjectMapper(), simpUserRegistry);
+
+    @Test
+    void room_channel_should_be_subscribed_once_and_released_by_last_subscriber() {
+        relay.onSubscribe(subscribe("s1", "sub-1", ChatDestinations.roomTopic("1")));
+        relay.onSubscribe(subscribe("s2", "sub-1", ChatDestinations.roomTopic("1")));
+        relay.onSubscribe(subscribe("s2", "sub-2", ChatDestinations.typingTopic("1")));
+
+        verify(container, times(1)).addMessageListener(eq(relay), argThat((Topic t) -> t.getTopic().equals("chat:room:1:events")));
+        assertThat(relay.localSubscriptionCount("1")).isEqualTo(3);
+
+        relay.onUnsubscribe(unsubscribe("s1", "sub-1"));
+        relay.onDisconnect(disconnect("s2"));
+        relay.onDisconnect(disconnect("s2")); // 중복 DISCONNECT
+
+        verify(container, times(1)).removeMessageListener(eq(relay), argThat((Topic t) -> t.getTopic().equals("chat:room:1:events")));
+        assertThat(relay.localSubscriptionCount("1")).isZero();
+
+        // 다시 구독하면 채널도 다시 구독
+        relay.onSubscribe(subscribe("s3", "sub-1", ChatDestinations.roomTopic("1")));
+        verify(container, times(2)).addMessageListener(eq(relay), argThat((Topic t) -> t.getTopic().equals("chat:room:1:events")));
+    }
+
+    @Test
+    void resubscribe_with_same_id_should_release_previous_room() {
+        relay.onSubscribe(subscribe("s1", "sub-1", ChatDestinations.roomTopic("1")));
+        relay.onSubscribe(subscribe("s1", "sub-1", ChatDestinations.roomTopic("2")));
+
+        assertThat(relay.localSubscriptionCount("1")).isZero();
+        assertThat(relay.localSubscriptionCount("2")).isEqualTo(1);
+        verify(container).removeMessageListener(eq(relay), argThat((Topic t) -> t.getTopic().equals("chat:room:1:events")));
+    }
+
+    @Test
+    void onMessage_should_forward_room_envelope_to_local_broker() {
+        relay.onMessage(redisMessage("chat:room:1:events", "/topic/chat.room.1\n{\"seq\":1}"), null);
+
+        ArgumentCaptor<Message<?>> captor = ArgumentCaptor.forClass(Message.class);
+        verify(messagingTemplate).send(eq("/topic/chat.room.1"), captor.capture());
+        assertThat(new String((byte[]) captor.getValue().getPayload(), StandardCharsets.UTF_8)).isEqualTo("{\"seq\":1}");
+    }
+
+    @Test
+    void onMessage_should_forward_user_envelope_only_for_local_users() {
+        when(simpUserRegistry.getUser("7")).thenReturn(mock(SimpUser.class));
+
+        relay.onMessage(redisMessage("chat:user:events", "8\n/queue/unread\n{}"), null);
+        verify(messagingTemplate, never()).send(anyString(), any());
+
+        relay.onMessage(redisMessage("chat:user:events", "7\n/queue/unread\n{}"), null);
+        verify(messagingTemplate).send(eq("/user/7/queue/unread"), any());
+    }
+
+    @Test
+    void onMessage_should_drop_malformed_envelope() {
+        relay.onMessage(redisMessage("chat:room:1:events", "no-separator"), null);
+        relay.onMessage(redisMessage("chat:user:events", "\n/queue/unread\n{}"), null);
+
+        verify(messagingTemplate, never()).send(anyString(), any());
+    }
+
+    private static SessionSubscribeEvent subscribe(String sessionId, String subscriptionId, String destination) {
+        StompHeaderAccessor acc = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        acc.setSessionId(sessionId);
+        acc.setSubscriptionId(subscriptionId);
+        acc.setDestination(destination);
+        return new SessionSubscribeEvent(RedisRelayChatBroadcasterTest.class, message(acc));
+    }
+
+    private static SessionUnsubscribeEvent unsubscribe(String sessionId, String subscriptionId) {
+        StompHeaderAccessor acc = StompHeaderAccessor.create(StompCommand.UNSUBSCRIBE);
+        acc.setSessionId(sessionId);
+        acc.setSubscriptionId(subscriptionId);
+        return new SessionUnsubscribeEvent(RedisRelayChatBroadcasterTest.class, message(acc));
+    }
+
+    private static SessionDisconnectEvent disconnect(String sessionId) {
+        StompHeaderAccessor acc = StompHeaderAccessor.create(StompCommand.DISCONNECT);
+        acc.setSessionId(sessionId);
+        return new SessionDisconnectEvent(RedisRelayChatBroadcasterTest.class, message(acc), sessionId, CloseStatus.NORMAL);
+    }
+
+    private static Message<byte[]> message(StompHeaderAccessor acc) {
+        return MessageBuilder.createMessage(new byte[0], acc.getMessageHeaders());
+    }
+
+    private static DefaultMessage redisMessage(String channel, String body) {
+        return new DefaultMessage(channel.getBytes(StandardCharsets.UTF_8), body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,83 @@
+package kr.co.mongmate.ws.chat.controller;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.security.Principal;
+import java.time.Duration;
+import kr.co.mongmate.api.chat.dto.ChatMessageDto;
+import kr.co.mongmate.api.chat.service.ChatRoomAccessService;
+import kr.co.mongmate.domain.chat.repository.ChatMessageJdbcRepository;
+import kr.co.mongmate.domain.chat.repository.ChatReadStateJdbcRepository;
+import kr.co.mongmate.domain.chat.service.ChatMessageWriteBehindBuffer;
+import kr.co.mongmate.infra.chat.store.InMemoryChatStore;
+import kr.co.mongmate.ws.chat.broadcast.ChatRoomBroadcastBatcher;
+import kr.co.mongmate.ws.chat.dto.ChatSendAck;
+import kr.co.mongmate.ws.chat.dto.ChatSendRequest;
+import kr.co.mongmate.ws.chat.metrics.ChatSendMetrics;
+import kr.co.mongmate.ws.chat.unread.ChatUnreadNotifier;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+class ChatControllerTest {
+
+    private final ChatRoomBroadcastBatcher batcher = mock(ChatRoomBroadcastBatcher.class);
+    private final SimpMessagingTemplate messagingTemplate = mock(SimpMessagingTemplate.class);
+    private final InMemoryChatStore chatStore = new InMemoryChatStore(
+            mock(ChatMessageJdbcRepository.class), mock(ChatReadStateJdbcRepository.class), 16, Duration.ofMinutes(5));
+    private final ChatMessageWriteBehindBuffer writeBehind = mock(ChatMessageWriteBehindBuffer.class);
+    private final ChatUnreadNotifier unreadNotifier = mock(ChatUnreadNotifier.class);
+    private final ChatController controller = new ChatController(batcher, messagingTemplate, chatStore,
+            mock(ChatRoomAccessService.class), writeBehind, unreadNotifier, new ChatSendMetrics(new SimpleMeterRegistry()));
+
+    private final Principal user = () -> "7";
+    private final ChatSendRequest req = new ChatSendRequest("1", "hi", "c-1");
+
+    @Test
+    void retry_after_persist_failure_should_persist_and_broadcast_original_message() {
+        doThrow(new IllegalStateException("queue full, inline save failed"))
+                .doNothing()
+                .when(writeBehind).submit(anyString(), anyString(), anyLong(), anyString(), anyLong());
+
+        assertThatThrownBy(() -> controller.handleChatMessage(req, user, headers()))
+                .isInstanceOf(IllegalStateException.class);
+        controller.handleChatMessage(req, user, headers());
+
+        verify(writeBehind, times(2)).submit(eq("1"), eq("7"), eq(1L), eq("hi"), anyLong());
+        verify(batcher, times(1)).publish(argThat((ChatMessageDto m) -> m.seq() == 1L));
+        verify(unreadNotifier, times(1)).onMessage(any());
+    }
+
+    @Test
+    void retry_after_broadcast_failure_should_only_broadcast_again() {
+        doThrow(new IllegalStateException("broker down")).doNothing().when(batcher).publish(any());
+
+        assertThatThrownBy(() -> controller.handleChatMessage(req, user, headers()))
+                .isInstanceOf(IllegalStateException.class);
+        controller.handleChatMessage(req, user, headers());
+        // 세 번째 재전송은 이미 처리 완료 → 아무것도 다시 하지 않음
+        controller.handleChatMessage(req, user, headers());
+
+        verify(writeBehind, times(1)).submit(anyString(), anyString(), anyLong(), anyString(), anyLong());
+        verify(batcher, times(2)).publish(argThat((ChatMessageDto m) -> m.seq() == 1L));
+        verify(messagingTemplate, times(2)).convertAndSendToUser(eq("7"), eq(ChatController.ACK_DESTINATION),
+                argThat((ChatSendAck ack) -> ack.seq() == 1L && ack.duplicate()), anyMap());
+    }
+
+    private static SimpMessageHeaderAccessor headers() {
+        SimpMessageHeaderAccessor headers = SimpMessageHeaderAccessor.create();
+        headers.setSessionId("s1");
+        return headers;
+    }
+}
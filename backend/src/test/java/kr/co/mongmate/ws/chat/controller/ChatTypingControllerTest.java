@@ -0,0 +1,98 @@
+package kr.co.mongmate.ws.chat.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.security.Principal;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import kr.co.mongmate.api.chat.service.ChatRoomAccessService;
+import kr.co.mongmate.ws.chat.ChatDestinations;
+import kr.co.mongmate.ws.chat.broadcast.ChatBroadcaster;
+import kr.co.mongmate.ws.chat.dto.ChatTypingEvent;
+import kr.co.mongmate.ws.chat.dto.ChatTypingRequest;
+import kr.co.mongmate.ws.config.StompInboundChannelInterceptor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+
+class ChatTypingControllerTest {
+
+    private final ChatBroadcaster chatBroadcaster = mock(ChatBroadcaster.class);
+    private final ChatRoomAccessService chatRoomAccessService = mock(ChatRoomAccessService.class);
+    private final ChatTypingController controller =
+            new ChatTypingController(chatBroadcaster, chatRoomAccessService, 1000);
+    private final Principal user = () -> "7";
+
+    @BeforeEach
+    void setUp() {
+        when(chatRoomAccessService.isMember(anyString(), anyString())).thenReturn(true);
+    }
+
+    @Test
+    void keystroke_burst_should_broadcast_once_per_interval() {
+        SimpMessageHeaderAccessor headers = sessionWithRooms(Set.of("10"));
+
+        for (int i = 0; i < 20; i++) {
+            controller.handleTyping(new ChatTypingRequest("10", true), user, headers);
+        }
+
+        verify(chatBroadcaster, times(1)).broadcast("10", ChatDestinations.typingTopic("10"),
+                new ChatTypingEvent("10", "7", true));
+        // 멤버십 재확인은 실제로 전파할 때만
+        verify(chatRoomAccessService, times(1)).isMember("10", "7");
+    }
+
+    @Test
+    void member_who_left_room_should_be_ignored_and_forgotten() {
+        SimpMessageHeaderAccessor headers = sessionWithRooms(Set.of("10"));
+        when(chatRoomAccessService.isMember("10", "7")).thenReturn(false);
+
+        controller.handleTyping(new ChatTypingRequest("10", true), user, headers);
+
+        verify(chatBroadcaster, never()).broadcast(anyString(), anyString(), any());
+        assertThat(StompInboundChannelInterceptor.isAuthorized(headers.getSessionAttributes(), "10")).isFalse();
+    }
+
+    @Test
+    void room_not_subscribed_in_session_should_be_ignored() {
+        SimpMessageHeaderAccessor headers = sessionWithRooms(Set.of("10"));
+
+        controller.handleTyping(new ChatTypingRequest("11", true), user, headers);
+
+        verify(chatBroadcaster, never()).broadcast(anyString(), anyString(), any());
+    }
+
+    @Test
+    void stop_should_pass_only_after_typing_and_reset_throttle() {
+        Map<String, Long> lastSent = new ConcurrentHashMap<>();
+
+        assertThat(controller.shouldBroadcast(lastSent, "10", false, 0)).isFalse();
+        assertThat(controller.shouldBroadcast(lastSent, "10", true, 0)).isTrue();
+        assertThat(controller.shouldBroadcast(lastSent, "10", true, 500)).isFalse();
+        assertThat(controller.shouldBroadcast(lastSent, "10", false, 600)).isTrue();
+        assertThat(controller.shouldBroadcast(lastSent, "10", true, 700)).isTrue();
+        assertThat(controller.shouldBroadcast(lastSent, "10", true, 1700)).isTrue();
+    }
+
+    private static SimpMessageHeaderAccessor sessionWithRooms(Set<String> rooms) {
+        // subscriptionId → roomId
+        Map<String, String> subscriptions = new ConcurrentHashMap<>();
+        rooms.forEach(room -> subscriptions.put("sub-" + room, room));
+        Map<String, Object> attrs = new HashMap<>();
+        attrs.put(StompInboundChannelInterceptor.ROOMS_SESSION_KEY, subscriptions);
+
+        SimpMessageHeaderAccessor headers = SimpMessageHeaderAccessor.create();
+        headers.setSessionId("s1");
+        headers.setSessionAttributes(attrs);
+        return headers;
+    }
+}
@@ -0,0 +1,253 @@
+package kr.co.mongmate.ws.chat.load;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.net.ServerSocket;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import kr.co.mongmate.api.chat.service.ChatMembershipCache;
+import kr.co.mongmate.ws.chat.ChatDestinations;
+import kr.co.mongmate.ws.chat.dto.ChatSendRequest;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.messaging.converter.ByteArrayMessageConverter;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+import redis.embedded.RedisServer;
+
+/**
+ * /app/chat.send 종단 간 부하 테스트 (./gradlew loadTest, 기본 test 태스크에서는 제외)
+ *
+ * - 앱 전체를 H2 + embedded Redis 로 띄우고, 실제 STOMP over WebSocket 세션으로 /ws-chat 에 접속
+ * - rooms 개 방 × users-per-room 명 (유저마다 JWT, 세션 1개), 모든 유저가 자기 방 topic 구독
+ * - rate(msg/s) 로 유저를 돌아가며 전송, 본문에 "예정 전송 시각(nanoTime)" 을 넣어서
+ *   수신 측에서 publish → receive 지연을 기록 (예정 시각 기준이라 송신이 밀린 만큼도 지연에 포함됨)
+ * - 방 멤버십은 DB 대신 ChatMembershipCache 를 mock (방/유저 fixture 없이 id 만으로 구성)
+ *
+ * 설정 (gradle -P 로 전달): load.rooms, load.users-per-room, load.rate, load.duration-seconds,
+ *                         load.warmup-seconds, load.min-delivery-ratio
+ */
+@Tag("load")
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "jwt.secret=" + ChatSendLoadTest.JWT_SECRET_BASE64,
+                "solapi.api-key=load",
+                "solapi.api-secret=load",
+                "solapi.from-number=01000000000",
+                "chat.broadcast.relay=redis",
+                "chat.ws.transport.send-buffer-size-limit=16MB"
+        }
+)
+class ChatSendLoadTest {
+
+    static final String JWT_SECRET_BASE64 = "bG9hZC10ZXN0LXNlY3JldC1sb2FkLXRlc3Qtc2VjcmV0LWxvYWQtdGVzdC1zZWNyZXQ=";
+
+    private static final int ROOMS = intProp("load.rooms", 20);
+    private static final int USERS_PER_ROOM = intProp("load.users-per-room", 5);
+    private static final int RATE = intProp("load.rate", 500);
+    private static final int DURATION_SECONDS = intProp("load.duration-seconds", 10);
+    private static final int WARMUP_SECONDS = intProp("load.warmup-seconds", 2);
+    private static final double MIN_DELIVERY_RATIO =
+            Double.parseDouble(System.getProperty("load.min-delivery-ratio", "0.99"));
+
+    private static final String CONTENT_PREFIX = "load:";
+
+    private static RedisServer redisServer;
+
+    @LocalServerPort
+    int port;
+
+    @MockBean
+    ChatMembershipCache chatMembershipCache;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Histogram latencies = new ConcurrentHistogram(TimeUnit.MINUTES.toNanos(1), 3);
+    private final AtomicLong received = new AtomicLong();
+    private final AtomicLong receivedMeasured = new AtomicLong();
+    private volatile long measureFrom = Long.MAX_VALUE;
+
+    @DynamicPropertySource
+    static void redisProperties(DynamicPropertyRegistry registry) throws IOException {
+        int redisPort;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            redisPort = socket.getLocalPort();
+        }
+        redisServer = new RedisServer(redisPort);
+        redisServer.start();
+
+        registry.add("spring.data.redis.host", () -> "localhost");
+        registry.add("spring.data.redis.port", () -> redisPort);
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        if (redisServer != null) redisServer.stop();
+    }
+
+    @Test
+    void send_throughput_and_latency() throws Exception {
+        when(chatMembershipCache.isMember(anyLong(), anyLong())).thenReturn(true);
+        when(chatMembershipCache.members(anyLong())).thenReturn(List.of());
+
+        ThreadPoolTaskScheduler heartbeat = new ThreadPoolTaskScheduler();
+        heartbeat.initialize();
+        WebSocketStompClient stompClient = new WebSocketStompClient(new StandardWebSocketClient());
+        stompClient.setMessageConverter(new ByteArrayMessageConverter());
+        stompClient.setTaskScheduler(heartbeat);
+
+        // 1) 유저별 세션 연결 + 자기 방 구독
+        List<Sender> senders = new ArrayList<>();
+        for (int room = 1; room <= ROOMS; room++) {
+            for (int u = 0; u < USERS_PER_ROOM; u++) {
+                String userId = String.valueOf(room * 1000 + u);
+                StompSession session = connect(stompClient, userId);
+                session.subscribe(ChatDestinations.roomTopic(String.valueOf(room)), new LatencyHandler());
+                senders.add(new Sender(String.valueOf(room), session));
+            }
+        }
+        Thread.sleep(500); // SUBSCRIBE 처리 대기
+
+        // 2) 일정 rate 로 전송 (warmup 구간은 지연 통계에서 제외)
+        StompHeaders sendHeaders = new StompHeaders();
+        sendHeaders.setDestination("/app/chat.send");
+        sendHeaders.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / RATE;
+        long start = System.nanoTime();
+        measureFrom = start + TimeUnit.SECONDS.toNanos(WARMUP_SECONDS);
+        long end = measureFrom + TimeUnit.SECONDS.toNanos(DURATION_SECONDS);
+
+        long sent = 0;
+        long sentMeasured = 0;
+        for (long scheduled = start; scheduled < end; scheduled += intervalNanos) {
+            long wait = scheduled - System.nanoTime();
+            if (wait > 0) LockSupport.parkNanos(wait);
+
+            Sender sender = senders.get((int) (sent % senders.size()));
+            sender.session().send(sendHeaders, objectMapper.writeValueAsBytes(
+                    new ChatSendRequest(sender.roomId(), CONTENT_PREFIX + scheduled, null)));
+            sent++;
+            if (scheduled >= measureFrom) sentMeasured++;
+        }
+        long sendElapsedNanos = System.nanoTime() - measureFrom;
+
+        // 3) 남은 수신 대기 (방 인원 전원이 받음: 보낸 사람 포함)
+        long expected = sent * USERS_PER_ROOM;
+        long drainDeadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (received.get() < expected && System.nanoTime() < drainDeadline) {
+            Thread.sleep(50);
+        }
+
+        long expectedMeasured = sentMeasured * USERS_PER_ROOM;
+        double deliveryRatio = expectedMeasured == 0 ? 0 : (double) receivedMeasured.get() / expectedMeasured;
+        double seconds = sendElapsedNanos / 1e9;
+
+        System.out.printf("""
+                        [LOAD] rooms=%d users=%d rate=%d/s duration=%ds (warmup %ds)
+                        [LOAD] sent=%d (%.1f msg/s)  delivered=%d/%d (%.2f%%, %.1f deliveries/s)
+                        [LOAD] publish->receive latency ms  p50=%.2f  p99=%.2f  p999=%.2f  max=%.2f
+                        """,
+                ROOMS, ROOMS * USERS_PER_ROOM, RATE, DURATION_SECONDS, WARMUP_SECONDS,
+                sentMeasured, sentMeasured / seconds,
+                receivedMeasured.get(), expectedMeasured, deliveryRatio * 100, receivedMeasured.get() / seconds,
+                millis(latencies.getValueAtPercentile(50)), millis(latencies.getValueAtPercentile(99)),
+                millis(latencies.getValueAtPercentile(99.9)), millis(latencies.getMaxValue()));
+
+        for (Sender s : senders) {
+            s.session().disconnect();
+        }
+        heartbeat.shutdown();
+
+        assertThat(deliveryRatio).isGreaterThanOrEqualTo(MIN_DELIVERY_RATIO);
+    }
+
+    private StompSession connect(WebSocketStompClient client, String userId) throws Exception {
+        StompHeaders connectHeaders = new StompHeaders();
+        connectHeaders.add("Authorization", "Bearer " + token(userId));
+        return client.connectAsync("ws://localhost:" + port + "/ws-chat/websocket",
+                        new WebSocketHttpHeaders(), connectHeaders, new StompSessionHandlerAdapter() {})
+                .get(5, TimeUnit.SECONDS);
+    }
+
+    /** 방 topic 프레임 (단건 또는 batcher 가 묶은 배열) 에서 예정 전송 시각을 꺼내 지연 기록 */
+    private class LatencyHandler implements StompFrameHandler {
+
+        @Override
+        public Type getPayloadType(StompHeaders headers) {
+            return byte[].class;
+        }
+
+        @Override
+        public void handleFrame(StompHeaders headers, Object payload) {
+            long now = System.nanoTime();
+            try {
+                JsonNode node = objectMapper.readTree((byte[]) payload);
+                if (node.isArray()) {
+                    node.forEach(m -> record(m, now));
+                } else {
+                    record(node, now);
+                }
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        private void record(JsonNode message, long now) {
+            received.incrementAndGet();
+            String content = message.path("content").asText();
+            if (!content.startsWith(CONTENT_PREFIX)) return;
+
+            long scheduled = Long.parseLong(content.substring(CONTENT_PREFIX.length()));
+            if (scheduled < measureFrom) return; // warmup
+            receivedMeasured.incrementAndGet();
+            latencies.recordValue(Math.min(now - scheduled, latencies.getHighestTrackableValue()));
+        }
+    }
+
+    private record Sender(String roomId, StompSession session) {}
+
+    private static String token(String userId) {
+        return Jwts.builder()
+                .setSubject(userId)
+                .claim("roles", List.of("ROLE_USER"))
+                .setExpiration(new Date(System.currentTimeMillis() + TimeUnit.HOURS.toMillis(1)))
+                .signWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(JWT_SECRET_BASE64)))
+                .compact();
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    private static int intProp(String name, int defaultValue) {
+        return Integer.parseInt(System.getProperty(name, String.valueOf(defaultValue)));
+    }
+}
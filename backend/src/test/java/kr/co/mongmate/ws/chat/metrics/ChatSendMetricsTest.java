@@ -0,0 +1,26 @@
+package kr.co.mongmate.ws.chat.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.co.mongmate.ws.chat.metrics.ChatSendMetrics.Stage;
+import org.junit.jupiter.api.Test;
+
+class ChatSendMetricsTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final ChatSendMetrics metrics = new ChatSendMetrics(registry);
+
+    @Test
+    void stage_should_be_timed_and_failure_counted_and_rethrown() {
+        assertThat(metrics.record(Stage.APPEND, () -> 42L)).isEqualTo(42L);
+        assertThatThrownBy(() -> metrics.record(Stage.APPEND, () -> {
+            throw new IllegalStateException("redis down");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(registry.get("chat.send.stage").tag("stage", "append").timer().count()).isEqualTo(2);
+        assertThat(registry.get("chat.send.stage.failures").tag("stage", "append").counter().count()).isEqualTo(1);
+        assertThat(registry.get("chat.send.stage.failures").tag("stage", "authorize").counter().count()).isZero();
+    }
+}
@@ -0,0 +1,52 @@
+package kr.co.mongmate.ws.chat.unread;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import kr.co.mongmate.api.chat.dto.ChatMessageDto;
+import kr.co.mongmate.api.chat.service.ChatMembershipCache;
+import kr.co.mongmate.ws.chat.broadcast.ChatBroadcaster;
+import kr.co.mongmate.ws.chat.dto.ChatUnreadUpdate;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+class ChatUnreadNotifierTest {
+
+    private final ChatMembershipCache chatMembershipCache = mock(ChatMembershipCache.class);
+    private final ChatBroadcaster chatBroadcaster = mock(ChatBroadcaster.class);
+    private final ChatUnreadNotifier notifier = new ChatUnreadNotifier(chatMembershipCache, chatBroadcaster);
+
+    @Test
+    void burst_should_be_coalesced_into_one_push_per_recipient() {
+        when(chatMembershipCache.members(10L)).thenReturn(List.of(1L, 2L));
+
+        for (int seq = 1; seq <= 5; seq++) {
+            notifier.onMessage(ChatMessageDto.of("10", seq, "1", "m" + seq));
+        }
+        notifier.flush();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<ChatUnreadUpdate>> captor = ArgumentCaptor.forClass(List.class);
+        verify(chatBroadcaster, times(1)).sendToUser(eq("2"), eq(ChatUnreadNotifier.UNREAD_DESTINATION), captor.capture());
+        assertThat(captor.getValue()).containsExactly(new ChatUnreadUpdate("10", 5L, 5));
+
+        // 발신자 본인에게는 보내지 않음
+        verify(chatBroadcaster, never()).sendToUser(eq("1"), anyString(), any());
+    }
+
+    @Test
+    void flush_without_pending_should_not_push() {
+        notifier.flush();
+
+        verify(chatBroadcaster, never()).sendToUser(anyString(), anyString(), any());
+        assertThat(notifier.pendingUsers()).isZero();
+    }
+}
@@ -0,0 +1,122 @@
+package kr.co.mongmate.ws.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.SessionLimitExceededException;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator.OverflowStrategy;
+
+class OutboundBackpressureTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void overflow_policy_should_map_to_decorator_strategy() {
+        assertThat(OutboundBackpressure.overflowStrategyOf("drop")).isEqualTo(OverflowStrategy.DROP);
+        assertThat(OutboundBackpressure.overflowStrategyOf(" Disconnect ")).isEqualTo(OverflowStrategy.TERMINATE);
+        assertThatThrownBy(() -> OutboundBackpressure.overflowStrategyOf("block"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void drop_policy_should_keep_slow_session_open_and_bound_its_buffer() throws Exception {
+        OutboundBackpressure backpressure = new OutboundBackpressure(meterRegistry, "drop");
+        CountDownLatch release = new CountDownLatch(1);
+        WebSocketSession raw = slowSession("s1", release);
+
+        WebSocketSession session = backpressure.decorate(raw, 10_000, 100);
+
+        // 첫 프레임이 소켓 쓰기에 묶여 있는 동안 나머지는 버퍼에 쌓인다
+        Thread writer = new Thread(() -> send(session, "first"));
+        writer.start();
+        verify(raw, timeout(1000)).sendMessage(any());
+
+        for (int i = 0; i < 5; i++) {
+            session.sendMessage(new TextMessage("x".repeat(40)));
+        }
+
+        assertThat(backpressure.bufferSizeOf("s1")).isPositive().isLessThanOrEqualTo(100);
+        assertThat(meterRegistry.get("chat.ws.outbound.buffered").gauge().value())
+                .isEqualTo(backpressure.bufferSizeOf("s1"));
+        verify(raw, never()).close(any());
+        // 5 + 40 + 40 까지 적재, 나머지 3 프레임은 한도 초과로 버려지고 기록된다
+        assertThat(meterRegistry.get("chat.ws.outbound.dropped").counter().count()).isEqualTo(3.0);
+        assertThat(meterRegistry.get("chat.ws.outbound.buffer.depth").summary().count()).isEqualTo(3);
+
+        release.countDown();
+        writer.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    @Test
+    void disconnect_policy_should_not_drop_frames_itself() throws Exception {
+        OutboundBackpressure backpressure = new OutboundBackpressure(meterRegistry, "disconnect");
+        CountDownLatch release = new CountDownLatch(1);
+        WebSocketSession raw = slowSession("s1", release);
+        WebSocketSession session = backpressure.decorate(raw, 10_000, 100);
+
+        Thread writer = new Thread(() -> send(session, "first"));
+        writer.start();
+        verify(raw, timeout(1000)).sendMessage(any());
+
+        session.sendMessage(new TextMessage("x".repeat(40)));
+        assertThatThrownBy(() -> {
+            for (int i = 0; i < 5; i++) {
+                session.sendMessage(new TextMessage("x".repeat(40)));
+            }
+        }).isInstanceOf(SessionLimitExceededException.class);
+        assertThat(meterRegistry.get("chat.ws.outbound.dropped").counter().count()).isZero();
+
+        release.countDown();
+        writer.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    @Test
+    void closed_session_should_no_longer_be_tracked() throws Exception {
+        OutboundBackpressure backpressure = new OutboundBackpressure(meterRegistry, "drop");
+        CountDownLatch release = new CountDownLatch(1);
+        WebSocketSession raw = slowSession("s1", release);
+        WebSocketSession session = backpressure.decorate(raw, 10_000, 1000);
+
+        Thread writer = new Thread(() -> send(session, "first"));
+        writer.start();
+        verify(raw, timeout(1000)).sendMessage(any());
+        session.sendMessage(new TextMessage("queued"));
+
+        backpressure.remove("s1");
+
+        assertThat(backpressure.bufferSizeOf("s1")).isZero();
+        assertThat(meterRegistry.get("chat.ws.outbound.buffered").gauge().value()).isZero();
+
+        release.countDown();
+        writer.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    private static WebSocketSession slowSession(String id, CountDownLatch release) throws Exception {
+        WebSocketSession raw = mock(WebSocketSession.class);
+        when(raw.getId()).thenReturn(id);
+        when(raw.isOpen()).thenReturn(true);
+        doAnswer(inv -> release.await(5, TimeUnit.SECONDS)).when(raw).sendMessage(any());
+        return raw;
+    }
+
+    private static void send(WebSocketSession session, String payload) {
+        try {
+            session.sendMessage(new TextMessage(payload));
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package kr.co.mongmate.ws.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import kr.co.mongmate.api.chat.service.ChatRoomAccessService;
+import kr.co.mongmate.infra.security.jwt.JwtTokenProvider;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+class StompInboundChannelInterceptorTest {
+
+    private final JwtTokenProvider jwtTokenProvider = mock(JwtTokenProvider.class);
+    private final ChatRoomAccessService chatRoomAccessService = mock(ChatRoomAccessService.class);
+    private final StompInboundChannelInterceptor interceptor =
+            new StompInboundChannelInterceptor(jwtTokenProvider, chatRoomAccessService);
+
+    private final Authentication auth = new UsernamePasswordAuthenticationToken("7", "token", List.of());
+
+    @Test
+    void connect_should_set_user_in_place_and_store_session_auth() {
+        when(jwtTokenProvider.getAuthentication("token")).thenReturn(auth);
+        Map<String, Object> attrs = new HashMap<>();
+        Message<byte[]> message = mutableFrame(StompCommand.CONNECT, null, null, attrs);
+
+        Message<?> result = interceptor.preSend(message, null);
+
+        assertThat(result).isSameAs(message);
+        assertThat(MessageHeaderAccessor.getAccessor(result, StompHeaderAccessor.class).getUser()).isSameAs(auth);
+        assertThat(attrs).containsEntry(StompInboundChannelInterceptor.AUTH_SESSION_KEY, auth);
+    }
+
+    @Test
+    void subscribe_with_user_should_check_membership_without_rebuilding() {
+        Map<String, Object> attrs = new HashMap<>();
+        Message<byte[]> message = mutableFrame(StompCommand.SUBSCRIBE, "/topic/chat.room.5", auth, attrs);
+
+        Message<?> result = interceptor.preSend(message, null);
+
+        assertThat(result).isSameAs(message);
+        verify(chatRoomAccessService).assertMember("5", "7");
+        assertThat(StompInboundChannelInterceptor.isAuthorized(attrs, "5")).isTrue();
+    }
+
+    @Test
+    void unsubscribe_should_forget_room_once_its_last_subscription_is_gone() {
+        Map<String, Object> attrs = new HashMap<>();
+        interceptor.preSend(subscribeFrame("sub-1", "/topic/chat.room.5", attrs), null);
+        interceptor.preSend(subscribeFrame("sub-2", "/topic/chat.typing.5", attrs), null);
+
+        interceptor.preSend(unsubscribeFrame("sub-1", attrs), null);
+        assertThat(StompInboundChannelInterceptor.isAuthorized(attrs, "5")).isTrue();
+
+        interceptor.preSend(unsubscribeFrame("sub-2", attrs), null);
+        assertThat(StompInboundChannelInterceptor.isAuthorized(attrs, "5")).isFalse();
+    }
+
+    @Test
+    void forgetRoom_should_drop_every_subscription_of_room() {
+        Map<String, Object> attrs = new HashMap<>();
+        interceptor.preSend(subscribeFrame("sub-1", "/topic/chat.room.5", attrs), null);
+        interceptor.preSend(subscribeFrame("sub-2", "/topic/chat.typing.5", attrs), null);
+        interceptor.preSend(subscribeFrame("sub-3", "/topic/chat.room.6", attrs), null);
+
+        StompInboundChannelInterceptor.forgetRoom(attrs, "5");
+
+        assertThat(StompInboundChannelInterceptor.isAuthorized(attrs, "5")).isFalse();
+        assertThat(StompInboundChannelInterceptor.isAuthorized(attrs, "6")).isTrue();
+    }
+
+    @Test
+    void subscribe_typing_topic_should_check_membership_of_room() {
+        Message<byte[]> message = mutableFrame(StompCommand.SUBSCRIBE, "/topic/chat.typing.5", auth, new HashMap<>());
+
+        interceptor.preSend(message, null);
+
+        verify(chatRoomAccessService).assertMember("5", "7");
+    }
+
+    @Test
+    void send_without_user_should_restore_from_session() {
+        Map<String, Object> attrs = new HashMap<>(Map.of(StompInboundChannelInterceptor.AUTH_SESSION_KEY, auth));
+        Message<byte[]> message = mutableFrame(StompCommand.SEND, "/app/chat.send", null, attrs);
+
+        Message<?> result = interceptor.preSend(message, null);
+
+        assertThat(result).isSameAs(message);
+        assertThat(MessageHeaderAccessor.getAccessor(result, StompHeaderAccessor.class).getUser()).isSameAs(auth);
+        verifyNoInteractions(chatRoomAccessService);
+    }
+
+    @Test
+    void immutable_frame_should_be_rebuilt_with_user() {
+        Map<String, Object> attrs = new HashMap<>(Map.of(StompInboundChannelInterceptor.AUTH_SESSION_KEY, auth));
+        StompHeaderAccessor acc = StompHeaderAccessor.create(StompCommand.SEND);
+        acc.setDestination("/app/chat.send");
+        acc.setSessionAttributes(attrs);
+        Message<byte[]> message = MessageBuilder.createMessage(new byte[0], acc.getMessageHeaders());
+
+        Message<?> result = interceptor.preSend(message, null);
+
+        assertThat(result).isNotSameAs(message);
+        assertThat(StompHeaderAccessor.wrap(result).getUser()).isSameAs(auth);
+    }
+
+    @Test
+    void unauthenticated_subscribe_should_be_rejected() {
+        Message<byte[]> message = mutableFrame(StompCommand.SUBSCRIBE, "/topic/chat.room.5", null, new HashMap<>());
+
+        assertThatThrownBy(() -> interceptor.preSend(message, null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Unauthenticated");
+    }
+
+    @Test
+    void other_frames_should_pass_through() {
+        Message<byte[]> message = mutableFrame(StompCommand.DISCONNECT, null, null, null);
+
+        assertThat(interceptor.preSend(message, null)).isSameAs(message);
+        verifyNoInteractions(jwtTokenProvider, chatRoomAccessService);
+    }
+
+    private Message<byte[]> subscribeFrame(String subscriptionId, String destination, Map<String, Object> attrs) {
+        Message<byte[]> message = mutableFrame(StompCommand.SUBSCRIBE, destination, auth, attrs);
+        MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class).setSubscriptionId(subscriptionId);
+        return message;
+    }
+
+    private static Message<byte[]> unsubscribeFrame(String subscriptionId, Map<String, Object> attrs) {
+        Message<byte[]> message = mutableFrame(StompCommand.UNSUBSCRIBE, null, null, attrs);
+        MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class).setSubscriptionId(subscriptionId);
+        return message;
+    }
+
+    private static Message<byte[]> mutableFrame(StompCommand command, String destination,
+                                                Authentication user, Map<String, Object> attrs) {
+        StompHeaderAccessor acc = StompHeaderAccessor.create(command);
+        if (command == StompCommand.CONNECT) acc.setNativeHeader("Authorization", "Bearer token");
+        if (destination != null) acc.setDestination(destination);
+        acc.setSessionId("s1");
+        acc.setSessionAttributes(attrs);
+        acc.setUser(user);
+        acc.setLeaveMutable(true);
+        return MessageBuilder.createMessage(new byte[0], acc.getMessageHeaders());
+    }
+}
@@ -0,0 +1,77 @@
+package kr.co.mongmate.ws.presence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+class PresenceServiceTest {
+
+    private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final ValueOperations<String, String> valueOps = mock(ValueOperations.class);
+
+    private final Clock clock = mock(Clock.class);
+
+    private PresenceService presence;
+
+    @BeforeEach
+    void setUp() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOps);
+        when(clock.millis()).thenReturn(1_000_000L);
+        presence = new PresenceService(redisTemplate, clock, Duration.ofSeconds(30), 4);
+    }
+
+    @Test
+    void only_first_session_should_write_and_only_last_disconnect_should_release() {
+        presence.connect("s1", "7");
+        presence.connect("s2", "7");
+        presence.touch("s1");
+
+        verify(valueOps, times(1)).set(eq("presence:7"), anyString(), eq(Duration.ofSeconds(30)));
+
+        presence.disconnect("s1");
+        verify(redisTemplate, never()).execute(any(RedisScript.class), anyList(), any());
+        assertThat(presence.isOnline("7")).isTrue();
+
+        presence.disconnect("s2");
+        verify(redisTemplate, times(1)).execute(any(RedisScript.class), eq(List.of("presence:7")), any());
+        assertThat(presence.localUserCount()).isZero();
+    }
+
+    @Test
+    void isOnline_should_query_redis_only_for_users_not_connected_locally() {
+        presence.connect("s1", "1");
+        when(valueOps.multiGet(List.of("presence:2", "presence:3"))).thenReturn(Arrays.asList("other-node", null));
+
+        assertThat(presence.isOnline(List.of("1", "2", "3"))).containsExactlyInAnyOrder("1", "2");
+    }
+
+    @Test
+    void isOnline_should_fall_back_to_redis_for_local_user_without_recent_heartbeat() {
+        presence.connect("s1", "1");
+        when(clock.millis()).thenReturn(1_000_000L + Duration.ofSeconds(31).toMillis());
+        when(valueOps.multiGet(List.of("presence:1"))).thenReturn(Arrays.asList((String) null));
+
+        assertThat(presence.isOnline("1")).isFalse();
+
+        presence.touch("s1");
+        assertThat(presence.isOnline("1")).isTrue();
+    }
+}
@@ -14,6 +14,23 @@ export type SendChatPayload = {
   roomId: string;
   userId: string;
   content: string;
+  // ✅ 재전송 시 같은 값을 보내면 서버가 중복 저장하지 않음 (/user/queue/chat.ack 로 seq 확인)
+  clientMsgId?: string;
+};
+
+export type ChatGapResponse = {
+  roomId: string;
+  afterSeq: number;
+  currentSeq: number;
+  messages: (IncomingChatMessage & { seq: number })[];
+  // false 면 마지막 seq 로 requestGapFill 을 다시 호출
+  complete: boolean;
+};
+
+export type TypingEvent = {
+  roomId: string;
+  userId: string;
+  typing: boolean;
 };
 
 const WS_URL = "http://localhost:8080/ws-chat";
@@ -87,22 +104,63 @@ export async function ensureChatSocket(onConnected?: () => void) {
   return client;
 }
 
+// lastSeq 를 넘기면 구독 RECEIPT 를 받은 뒤 누락분을 요청 (응답은 subscribeGapFill 로 수신)
 export function subscribeRoom(
   roomId: string,
   onMessage: (m: IncomingChatMessage) => void,
+  lastSeq?: number,
 ): StompSubscription {
   if (!client) throw new Error("STOMP client is not initialized");
   if (!client.connected) throw new Error("STOMP client is not connected");
 
+  const headers: Record<string, string> = {};
+  if (lastSeq !== undefined) {
+    const receiptId = `sub-${roomId}-${Date.now()}`;
+    headers.receipt = receiptId;
+    // ✅ 구독이 등록된 뒤에 요청해야 그 사이 메시지가 빠지지 않음
+    client.watchForReceipt(receiptId, () => requestGapFill(roomId, lastSeq));
+  }
+
   return client.subscribe(`/topic/chat.room.${roomId}`, (msg: IMessage) => {
     try {
-      onMessage(JSON.parse(msg.body));
+      // ✅ 붐비는 방은 서버가 여러 메시지를 배열 프레임 하나로 묶어서 보냄
+      const parsed = JSON.parse(msg.body);
+      if (Array.isArray(parsed)) {
+        parsed.forEach((m: IncomingChatMessage) => onMessage(m));
+      } else {
+        onMessage(parsed);
+      }
     } catch {
       console.log("Invalid ws message:", msg.body);
     }
   });
 }
 
+// 재접속 누락분 응답 (이 세션에만 옴)
+export function subscribeGapFill(
+  onGap: (gap: ChatGapResponse) => void,
+): StompSubscription {
+  if (!client) throw new Error("STOMP client is not initialized");
+  if (!client.connected) throw new Error("STOMP client is not connected");
+
+  return client.subscribe("/user/queue/chat.gap", (msg: IMessage) => {
+    try {
+      onGap(JSON.parse(msg.body));
+    } catch {
+      console.log("Invalid gap message:", msg.body);
+    }
+  });
+}
+
+export function requestGapFill(roomId: string, lastSeq: number) {
+  if (!client || !client.connected) return;
+
+  client.publish({
+    destination: "/app/chat.gap",
+    body: JSON.stringify({ roomId, lastSeq }),
+  });
+}
+
 export function publishChat(payload: SendChatPayload) {
   if (!client || !client.connected) {
     console.log("❌ STOMP not connected, skip send");
@@ -119,6 +177,33 @@ export function publishChat(payload: SendChatPayload) {
   });
 }
 
+// ✅ 입력 중 표시 (서버가 방별 1초에 한 번으로 줄여서 전파, 저장되지 않음)
+export function subscribeTyping(
+  roomId: string,
+  onTyping: (e: TypingEvent) => void,
+): StompSubscription {
+  if (!client) throw new Error("STOMP client is not initialized");
+  if (!client.connected) throw new Error("STOMP client is not connected");
+
+  return client.subscribe(`/topic/chat.typing.${roomId}`, (msg: IMessage) => {
+    try {
+      onTyping(JSON.parse(msg.body));
+    } catch {
+      console.log("Invalid typing message:", msg.body);
+    }
+  });
+}
+
+// 키 입력마다 호출해도 됨 (방 topic 을 구독 중인 경우에만 서버가 받아줌)
+export function publishTyping(roomId: string, typing: boolean) {
+  if (!client || !client.connected) return;
+
+  client.publish({
+    destination: "/app/chat.typing",
+    body: JSON.stringify({ roomId, typing }),
+  });
+}
+
 // (선택) 화면 unmount 시 정리하고 싶으면
 export async function disconnectChatSocket() {
   if (!client) return;